@@ -1,5 +1,8 @@
 package com.meetus.MeetUSInterview.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,12 +15,19 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.security.BCryptStrengthCalibrator;
 import com.meetus.MeetUSInterview.security.JwtAuthenticationEntryPoint;
 import com.meetus.MeetUSInterview.security.JwtAuthenticationFilter;
+import com.meetus.MeetUSInterview.security.OffloadingPasswordEncoder;
+import com.meetus.MeetUSInterview.security.PasswordHashingExecutor;
+
+import java.util.Map;
 
 @Configuration
 public class JWTSecurityConfiguration {
@@ -38,8 +48,16 @@ public class JWTSecurityConfiguration {
     }
 
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                    BCryptStrengthCalibrator bCryptStrengthCalibrator) {
+        BCryptPasswordEncoder bCrypt = new BCryptPasswordEncoder(bCryptStrengthCalibrator.resolveStrength());
+
+        // Stored hashes keep verifying at whatever cost they were created with; legacy hashes have no {id} prefix
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bCrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bCrypt);
+
+        // BCrypt runs on its own bounded pool so login bursts cannot occupy every request thread
+        return new OffloadingPasswordEncoder(delegating, passwordHashingExecutor);
     }
 
     @Bean
@@ -48,10 +66,10 @@ public class JWTSecurityConfiguration {
     }
 
     @Bean
-    AuthenticationProvider authenticationProvider() {
+    AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService());
 
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
 
         return authProvider;
     }
@@ -60,7 +78,8 @@ public class JWTSecurityConfiguration {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, 
                                                    JwtAuthenticationFilter jwtAuthenticationFilter,
-                                                   JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) throws Exception {
+                                                   JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configure(http))
@@ -71,11 +90,17 @@ public class JWTSecurityConfiguration {
                 .authenticationEntryPoint(jwtAuthenticationEntryPoint)
             )
             .authorizeHttpRequests(auth -> auth
+                // Streamed responses (task export) finish on an async dispatch; the request was authorized when it started
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints
-                .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login").permitAll()
+                .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login", "/api/v1/auth/refresh").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 
+                // Actuator endpoints other than health are operator tools, not part of the API
+                .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class)).denyAll()
+
                 // Protected endpoints
                 .requestMatchers("/api/v1/auth/logout").authenticated()
                 .requestMatchers("/api/v1/tasks/**").authenticated()
@@ -83,7 +108,7 @@ public class JWTSecurityConfiguration {
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         // For H2 console
@@ -1,5 +1,6 @@
 package com.meetus.MeetUSInterview.config;
 
+import com.meetus.MeetUSInterview.security.CurrentUserId;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
@@ -15,6 +17,11 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+    static {
+        // Resolved from the security context, not a request parameter
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUserId.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
@@ -0,0 +1,107 @@
+package com.meetus.MeetUSInterview.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache for {@link Task} and {@link User}: one Caffeine JCache region per entity, each with
+ * its own size and TTL. Regions must exist up front (hibernate.javax.cache.missing_cache_strategy=fail), so a
+ * cached entity without a configured region fails at startup instead of getting an unbounded default cache.
+ * <p>
+ * Deleting a user cascades to their tasks inside the database (fk_tasks_user_id), which Hibernate never sees,
+ * so the tasks region is cleared after such a delete commits.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(
+            @Value("${app.jpa.second-level-cache.tasks.max-size:10000}") long taskMaxSize,
+            @Value("${app.jpa.second-level-cache.tasks.ttl-seconds:600}") long taskTtlSeconds,
+            @Value("${app.jpa.second-level-cache.users.max-size:10000}") long userMaxSize,
+            @Value("${app.jpa.second-level-cache.users.ttl-seconds:600}") long userTtlSeconds
+    ) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(Task.CACHE_REGION, region(taskMaxSize, taskTtlSeconds));
+        cacheManager.createCache(User.CACHE_REGION, region(userMaxSize, userTtlSeconds));
+
+        log.info("Second-level cache regions created ({}: {} entries / {} s, {}: {} entries / {} s)",
+                Task.CACHE_REGION, taskMaxSize, taskTtlSeconds, User.CACHE_REGION, userMaxSize, userTtlSeconds);
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new UserDeleteCacheEviction()));
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        return configuration;
+    }
+
+    /**
+     * Clears the tasks region once a user delete commits
+     */
+    private static final class UserDeleteCacheEviction implements Integrator, PostCommitDeleteEventListener {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_COMMIT_DELETE, this);
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof User) {
+                event.getSession().getFactory().getCache().evictEntityData(Task.class);
+            }
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.getMappedClass() == User.class;
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                 SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.meetus.MeetUSInterview.controller;
 
 import com.meetus.MeetUSInterview.dto.request.auth.LoginRequest;
+import com.meetus.MeetUSInterview.dto.request.auth.RefreshTokenRequest;
 import com.meetus.MeetUSInterview.dto.request.auth.RegisterRequest;
 import com.meetus.MeetUSInterview.dto.response.APIResponse;
 import com.meetus.MeetUSInterview.dto.response.auth.AuthResponse;
+import com.meetus.MeetUSInterview.security.LoginThrottle;
 import com.meetus.MeetUSInterview.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -32,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Register a new user
@@ -68,6 +74,7 @@ public class AuthController {
     /**
      * Login user
      * @param request login request
+     * @param httpRequest servlet request, for the client address
      * @return authentication response with token
      */
     @PostMapping("/login")
@@ -85,11 +92,20 @@ public class AuthController {
             responseCode = "400", 
             description = "Invalid email or password",
             content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many login attempts for this email or client address",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<APIResponse<AuthResponse>> login(
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         log.info("Received login request for email: {}", request.getEmail());
 
+        // Rejected before any lookup or password hashing
+        loginThrottle.checkAttempt(request.getEmail(), httpRequest.getRemoteAddr());
+
         AuthResponse response = userService.login(request);
 
         log.info("User logged in successfully: {}", request.getEmail());
@@ -97,13 +113,43 @@ public class AuthController {
     }
 
     /**
-     * Logout user (client-side token invalidation)
+     * Refresh the access token
+     * @param request refresh token request
+     * @return authentication response with a new access token and refresh token
+     */
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "Refresh access token",
+        description = "Exchanges a refresh token for a new access token and a new refresh token. "
+            + "Each refresh token is single-use; reusing one revokes every token issued from the same login"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Token refreshed successfully",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Invalid, expired, revoked or reused refresh token",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<APIResponse<AuthResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = userService.refresh(request.getRefreshToken());
+
+        return ResponseEntity.ok(APIResponse.success(response, "Token refreshed successfully"));
+    }
+
+    /**
+     * Logout user by revoking the current access token and, if given, the refresh token
      * @return success response
      */
     @PostMapping("/logout")
     @Operation(
         summary = "Logout user",
-        description = "Invalidates the current user session (client should discard the token)",
+        description = "Revokes the current access token; it is rejected from now on until it expires. "
+            + "A refresh token in the body is revoked along with every token rotated from it",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses(value = {
@@ -118,7 +164,9 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<Void>> logout() {
+    public ResponseEntity<APIResponse<Void>> logout(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication != null) {
@@ -126,12 +174,17 @@ public class AuthController {
             log.info("User logged out: {}", email);
         }
 
+        // Revoke the bearer token so it stops working before its natural expiration
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+        if (accessToken != null || refreshToken != null) {
+            userService.logout(accessToken, refreshToken);
+        }
+
         // Clear security context
         SecurityContextHolder.clearContext();
-
-        // Note: In a stateless JWT system, logout is primarily handled client-side
-        // by discarding the token. For more robust logout, consider implementing
-        // a token blacklist or shorter expiration times.
         
         return ResponseEntity.ok(APIResponse.success(null, "User logged out successfully"));
     }
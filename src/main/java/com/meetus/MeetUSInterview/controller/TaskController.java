@@ -1,12 +1,26 @@
 package com.meetus.MeetUSInterview.controller;
 
 import com.meetus.MeetUSInterview.dto.request.task.TaskCreateRequest;
+import com.meetus.MeetUSInterview.dto.request.task.TaskLookupRequest;
 import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
 import com.meetus.MeetUSInterview.dto.response.APIResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskChangesResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskLookupResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskStatsResponse;
+import com.meetus.MeetUSInterview.enums.TaskExportFormat;
+import com.meetus.MeetUSInterview.security.CurrentUserId;
+import com.meetus.MeetUSInterview.service.TaskETags;
+import com.meetus.MeetUSInterview.service.TaskExportService;
+import com.meetus.MeetUSInterview.service.TaskLookupService;
+import com.meetus.MeetUSInterview.service.TaskPageCache;
+import com.meetus.MeetUSInterview.service.TaskQueryCoalescer;
 import com.meetus.MeetUSInterview.service.TaskService;
+import com.meetus.MeetUSInterview.service.TaskStatsService;
+import com.meetus.MeetUSInterview.service.TaskSyncService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,11 +30,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * REST Controller for Task operations
@@ -33,7 +55,19 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TaskController {
 
+    /**
+     * Task reads may be stored by the client but must be revalidated with If-None-Match before each reuse
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskExportService taskExportService;
+    private final TaskQueryCoalescer taskQueryCoalescer;
+    private final TaskPageCache taskPageCache;
+    private final TaskETags taskETags;
+    private final TaskLookupService taskLookupService;
+    private final TaskSyncService taskSyncService;
 
     /**
      * Create a new task for the authenticated user
@@ -62,8 +96,8 @@ public class TaskController {
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<TaskResponse>> createTask(@Valid @RequestBody TaskCreateRequest request) {
-        Long userId = getCurrentUserId();
+    public ResponseEntity<APIResponse<TaskResponse>> createTask(@Valid @RequestBody TaskCreateRequest request,
+                                                                @CurrentUserId Long userId) {
         log.info("Received request to create task for user ID: {}", userId);
 
         TaskResponse response = taskService.createTask(request, userId);
@@ -81,7 +115,9 @@ public class TaskController {
     @GetMapping
     @Operation(
         summary = "Get all tasks",
-        description = "Retrieves all tasks for the authenticated user with optional filtering and pagination"
+        description = "Retrieves all tasks for the authenticated user with optional filtering and pagination. "
+            + "Offset pagination uses page/size; cursor pagination (pagination=cursor, then cursor=nextCursor) "
+            + "costs the same for every page"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -89,29 +125,241 @@ public class TaskController {
             description = "Tasks retrieved successfully",
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(
             responseCode = "401", 
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<TaskPageResponse>> getAllTasks(@Valid TaskSearchRequest searchRequest) {
-        Long userId = getCurrentUserId();
-        log.info("Received request to get tasks for user ID: {} with filters - status: {}, search: {}, fromDate: {}, toDate: {}, sortBy: {}, sortDirection: {}, page: {}, size: {}",
+    public ResponseEntity<byte[]> getAllTasks(@Valid TaskSearchRequest searchRequest, @CurrentUserId Long userId,
+                                              WebRequest webRequest) {
+        log.info("Received request to get tasks for user ID: {} with filters - status: {}, search: {}, fromDate: {}, toDate: {}, sortBy: {}, sortDirection: {}, page: {}, size: {}, cursor pagination: {}",
                userId, searchRequest.getStatus(), searchRequest.getSearch(), searchRequest.getFromDate(), 
                searchRequest.getToDate(), searchRequest.getSortBy(), searchRequest.getSortDirection(), 
-               searchRequest.getPage(), searchRequest.getSize());
+               searchRequest.getPage(), searchRequest.getSize(), searchRequest.isCursorPagination());
         
-        TaskPageResponse response = taskService.getTasks(searchRequest, userId);
-        
-        log.info("Retrieved {} tasks out of {} total for user ID: {}", 
-            response.getTasks().size(), 
-            response.getTotalElements(),
-            userId);
+        String etag = taskETags.forListing(userId, searchRequest);
+        if (notModified(webRequest, etag)) {
+            return notModifiedResponse(etag);
+        }
+
+        byte[] body = taskPageCache.get(userId, searchRequest, () -> {
+            TaskPageResponse response = taskQueryCoalescer.coalesce(userId, searchRequest,
+                    () -> taskService.getTasks(searchRequest, userId));
+            log.info("Retrieved {} tasks for user ID: {}", response.getTasks().size(), userId);
+            return APIResponse.success(response, "Tasks retrieved successfully");
+        });
         
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Get many tasks of the authenticated user by ID
+     * @param ids task IDs
+     * @return found tasks and the IDs that were not found
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get tasks by IDs",
+        description = "Fetches up to the configured maximum of tasks with one query (ids=1,2,3). "
+            + "IDs that are missing or belong to another user are listed in notFound instead of failing the call"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tasks retrieved successfully",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No IDs or too many IDs",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<APIResponse<TaskLookupResponse>> getTasksByIds(@RequestParam List<Long> ids,
+                                                                         @CurrentUserId Long userId) {
+        log.info("Received request to get {} tasks by ID for user ID: {}", ids.size(), userId);
+
+        TaskLookupResponse response = taskLookupService.getTasks(ids, userId);
+
+        return ResponseEntity.ok(APIResponse.success(response, "Tasks retrieved successfully"));
+    }
+
+    /**
+     * Get many tasks of the authenticated user by ID, for ID sets too large for a query string
+     * @param request task IDs
+     * @return found tasks and the IDs that were not found
+     */
+    @PostMapping("/lookup")
+    @Operation(
+        summary = "Get tasks by IDs (request body)",
+        description = "Same as GET /api/v1/tasks?ids=..., with the IDs in the request body"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tasks retrieved successfully",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No IDs or too many IDs",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<APIResponse<TaskLookupResponse>> lookupTasks(@Valid @RequestBody TaskLookupRequest request,
+                                                                       @CurrentUserId Long userId) {
+        log.info("Received request to look up {} tasks for user ID: {}", request.getIds().size(), userId);
+
+        TaskLookupResponse response = taskLookupService.getTasks(request.getIds(), userId);
+
         return ResponseEntity.ok(APIResponse.success(response, "Tasks retrieved successfully"));
     }
 
+    /**
+     * Get the changes to the authenticated user's tasks since a previous sync
+     * @param since cursor from the previous call, omitted for a full sync
+     * @param limit maximum changed and deleted tasks per call
+     * @return changed tasks, deleted task IDs and the cursor for the next call
+     */
+    @GetMapping("/changes")
+    @Operation(
+        summary = "Get task changes",
+        description = "Delta sync: tasks created or updated and IDs of tasks deleted since the cursor. "
+            + "Call again with nextCursor while hasMore is true. Tasks may be sent more than once, so apply "
+            + "them by ID. When resyncRequired is true, drop local tasks and sync again without a cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<APIResponse<TaskChangesResponse>> getTaskChanges(
+            @Parameter(description = "Cursor returned by the previous call")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum changed and deleted tasks to return", example = "100")
+            @RequestParam(required = false) Integer limit,
+            @CurrentUserId Long userId) {
+        log.info("Received request to get task changes for user ID: {}", userId);
+
+        TaskChangesResponse response = taskSyncService.getChanges(since, limit, userId);
+
+        return ResponseEntity.ok(APIResponse.success(response, "Task changes retrieved successfully"));
+    }
+
+    /**
+     * Export all matching tasks of the authenticated user
+     * @param searchRequest filters as for listing; paging and sorting are ignored
+     * @param format ndjson or csv
+     * @return file streamed row by row as it is read from the database
+     */
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export tasks",
+        description = "Streams every task matching the filters, oldest first, as NDJSON or CSV. "
+            + "Memory use does not grow with the number of tasks"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid format or filters",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Valid TaskSearchRequest searchRequest,
+            @Parameter(description = "File format", example = "ndjson")
+            @RequestParam(required = false) String format,
+            @CurrentUserId Long userId) {
+        TaskExportFormat exportFormat = TaskExportFormat.fromString(format);
+        log.info("Received request to export tasks for user ID: {} as {}", userId, exportFormat);
+
+        StreamingResponseBody body = output -> taskExportService.export(searchRequest, userId, exportFormat, output);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    /**
+     * Get task statistics for the authenticated user
+     * @param from first day of the creation histogram
+     * @param to last day of the creation histogram
+     * @return counts by status and tasks created per day
+     */
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get task statistics",
+        description = "Returns open/done counts and the number of tasks created per day over a range "
+            + "(default: the last 30 days, at most 366 days), read from maintained aggregates"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Statistics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = APIResponse.class))
+        )
+    })
+    public ResponseEntity<APIResponse<TaskStatsResponse>> getTaskStats(
+            @Parameter(description = "First day of the histogram", example = "2024-11-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the histogram", example = "2024-11-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @CurrentUserId Long userId) {
+        log.info("Received request to get task stats for user ID: {} from {} to {}", userId, from, to);
+
+        TaskStatsResponse response = taskStatsService.getStats(userId, from, to);
+
+        return ResponseEntity.ok(APIResponse.success(response, "Task statistics retrieved successfully"));
+    }
+
     /**
      * Get a single task by ID for the authenticated user
      * @param id task ID
@@ -128,6 +376,7 @@ public class TaskController {
             description = "Task retrieved successfully",
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(
             responseCode = "401", 
             description = "Unauthorized",
@@ -144,14 +393,24 @@ public class TaskController {
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<TaskResponse>> getTaskById(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
+    public ResponseEntity<APIResponse<TaskResponse>> getTaskById(@PathVariable Long id, @CurrentUserId Long userId,
+                                                                 WebRequest webRequest) {
         log.info("Received request to get task with ID: {} for user ID: {}", id, userId);
 
+        // Missing or foreign tasks get no tag and fall through to the usual 404/403
+        String etag = taskETags.forTask(id, userId).orElse(null);
+        if (etag != null && notModified(webRequest, etag)) {
+            return notModifiedResponse(etag);
+        }
+
         TaskResponse response = taskService.getTaskById(id, userId);
 
         log.info("Task retrieved successfully with ID: {}", id);
-        return ResponseEntity.ok(APIResponse.success(response, "Task retrieved successfully"));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(REVALIDATE);
+        if (etag != null) {
+            ok.eTag(etag);
+        }
+        return ok.body(APIResponse.success(response, "Task retrieved successfully"));
     }
 
     /**
@@ -192,8 +451,7 @@ public class TaskController {
         )
     })
     public ResponseEntity<APIResponse<TaskResponse>> updateTask(
-            @PathVariable Long id ) {
-        Long userId = getCurrentUserId();
+            @PathVariable Long id, @CurrentUserId Long userId) {
         log.info("Received request to update task with ID: {} for user ID: {}", id, userId);
 
         TaskResponse response = taskService.updateTask(id, userId);
@@ -234,8 +492,7 @@ public class TaskController {
             content = @Content(schema = @Schema(implementation = APIResponse.class))
         )
     })
-    public ResponseEntity<APIResponse<Void>> deleteTask(@PathVariable Long id) {
-        Long userId = getCurrentUserId();
+    public ResponseEntity<APIResponse<Void>> deleteTask(@PathVariable Long id, @CurrentUserId Long userId) {
         log.info("Received request to delete task with ID: {} for user ID: {}", id, userId);
 
         taskService.deleteTask(id, userId);
@@ -244,12 +501,16 @@ public class TaskController {
         return ResponseEntity.ok(APIResponse.success(null, "Task deleted successfully"));
     }
 
-    /**
-     * Get current authenticated user's ID from JWT token
-     * @return user ID
-     */
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return Long.parseLong(authentication.getName()); // User.getUsername() returns user ID as string
+    private boolean notModified(WebRequest webRequest, String etag) {
+        boolean notModified = webRequest.checkNotModified(etag);
+        taskETags.record(notModified);
+        return notModified;
+    }
+
+    private static <T> ResponseEntity<T> notModifiedResponse(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .build();
     }
 }
@@ -0,0 +1,20 @@
+package com.meetus.MeetUSInterview.dto.request.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @Schema(description = "Refresh token returned by login, register or a previous refresh", example = "pV3n1x6hQ0yq8m7y0Wb4cA9tZr2kLsE5uJf1oG3dHiM", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Refresh token cannot be blank")
+    private String refreshToken;
+}
@@ -0,0 +1,21 @@
+package com.meetus.MeetUSInterview.dto.request.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLookupRequest {
+
+    @Schema(description = "IDs of the tasks to fetch", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one task ID is required")
+    private List<Long> ids;
+}
@@ -36,12 +36,30 @@ public class TaskSearchRequest {
     @Schema(description = "Page size", example = "10")
     private Integer size;
 
-    @Schema(description = "Sort by field", example = "createdAt", allowableValues = {"id", "title", "status", "createdAt", "updatedAt"})
+    @Schema(description = "Sort by field; relevance ranks search matches best first and requires a search term",
+            example = "createdAt", allowableValues = {"id", "title", "status", "createdAt", "updatedAt", "relevance"})
     private String sortBy;
     
     @Schema(description = "Sort direction", example = "DESC", allowableValues = {"ASC", "DESC"})
     private String sortDirection;
 
+    @Schema(description = "How totals are reported: exact runs a count query, none omits totals, "
+            + "estimated uses the per-status task statistics (search and date filters are not applied to the estimate)",
+            example = "exact", allowableValues = {"exact", "none", "estimated"})
+    private String count;
+
+    @Schema(description = "Pagination mode; cursor mode seeks past the previous page instead of skipping rows "
+            + "and supports sorting by id, createdAt and updatedAt only", example = "cursor", allowableValues = {"offset", "cursor"})
+    private String pagination;
+
+    @Schema(description = "Opaque cursor from the previous page's nextCursor; implies cursor pagination")
+    private String cursor;
+
+    @Schema(description = "Comma-separated task fields to return (id, title, description, status, userId, createdAt, "
+            + "updatedAt); defaults to all but description. id is always returned, and cursor pages also return "
+            + "their sort field", example = "id,title,status")
+    private String fields;
+
     @Schema(hidden = true)
     public int getPageOrDefault() {
         return (page != null && page >= 0) ? page : 0;
@@ -61,4 +79,9 @@ public class TaskSearchRequest {
     public String getSortDirectionOrDefault() {
         return (sortDirection != null && !sortDirection.isBlank()) ? sortDirection : "DESC";
     }
+
+    @Schema(hidden = true)
+    public boolean isCursorPagination() {
+        return (cursor != null && !cursor.isBlank()) || "cursor".equalsIgnoreCase(pagination);
+    }
 }
@@ -20,6 +20,12 @@ public class AuthResponse {
     
     @Schema(description = "Token type", example = "Bearer")
     private String tokenType;
+
+    @Schema(description = "Access token lifetime in seconds", example = "900")
+    private Long expiresIn;
+
+    @Schema(description = "Single-use refresh token for /api/v1/auth/refresh", example = "pV3n1x6hQ0yq8m7y0Wb4cA9tZr2kLsE5uJf1oG3dHiM")
+    private String refreshToken;
     
     @Schema(description = "Authenticated user details")
     private UserResponse user;
@@ -31,4 +37,14 @@ public class AuthResponse {
                 .user(user)
                 .build();
     }
+
+    public static AuthResponse of(String accessToken, long expiresIn, String refreshToken, UserResponse user) {
+        return AuthResponse.builder()
+                .accessToken(accessToken)
+                .tokenType("Bearer")
+                .expiresIn(expiresIn)
+                .refreshToken(refreshToken)
+                .user(user)
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.meetus.MeetUSInterview.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    /** Tasks created or updated since the cursor, oldest change first; may repeat tasks already sent */
+    private List<TaskResponse> changed;
+    /** IDs of tasks deleted since the cursor */
+    private List<Long> deleted;
+    /** Cursor for the next call, null when a resync is required */
+    private String nextCursor;
+    /** Whether more changes are waiting; call again right away with the next cursor */
+    private boolean hasMore;
+    /** The cursor is older than the tombstone retention: drop local state and sync again without a cursor */
+    private boolean resyncRequired;
+}
@@ -0,0 +1,21 @@
+package com.meetus.MeetUSInterview.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLookupResponse {
+
+    /** Found tasks, in the order their IDs were requested */
+    private List<TaskResponse> tasks;
+    /** Requested IDs with no task of the user: missing or owned by someone else, deliberately not told apart */
+    private List<Long> notFound;
+}
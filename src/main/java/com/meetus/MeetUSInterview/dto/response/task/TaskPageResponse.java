@@ -15,10 +15,17 @@ import java.util.List;
 public class TaskPageResponse {
 
     private List<TaskResponse> tasks;
-    private int currentPage;
-    private int totalPages;
-    private long totalElements;
+    /** Offset pagination only */
+    private Integer currentPage;
+    /** Offset pagination only */
+    private Integer totalPages;
+    /** Offset pagination only */
+    private Long totalElements;
+    /** True when the totals come from the task statistics (count=estimated) rather than a count query */
+    private boolean totalEstimated;
     private int size;
     private boolean first;
     private boolean last;
+    /** Cursor pagination only; null on the last page */
+    private String nextCursor;
 }
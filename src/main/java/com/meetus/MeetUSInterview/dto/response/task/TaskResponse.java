@@ -1,5 +1,6 @@
 package com.meetus.MeetUSInterview.dto.response.task;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,8 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 
+/**
+ * Task as returned by the API. Listings fill only the fields they selected; the rest are left out of the JSON.
+ */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskResponse {
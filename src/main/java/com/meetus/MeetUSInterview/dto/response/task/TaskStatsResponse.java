@@ -0,0 +1,48 @@
+package com.meetus.MeetUSInterview.dto.response.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+
+    @Schema(description = "Number of open tasks", example = "12")
+    private long openTasks;
+
+    @Schema(description = "Number of done tasks", example = "30")
+    private long doneTasks;
+
+    @Schema(description = "Total number of tasks", example = "42")
+    private long totalTasks;
+
+    @Schema(description = "First day of the histogram", example = "2024-11-01")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the histogram", example = "2024-11-30")
+    private LocalDate to;
+
+    @Schema(description = "Existing tasks created per day, one entry per day of the range")
+    private List<DailyCount> createdPerDay;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyCount {
+
+        @Schema(description = "Day", example = "2024-11-02")
+        private LocalDate date;
+
+        @Schema(description = "Tasks created that day", example = "3")
+        private long count;
+    }
+}
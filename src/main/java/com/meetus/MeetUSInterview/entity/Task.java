@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,15 +19,20 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tasks", indexes = {
-    @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_status", columnList = "status"),
+    @Index(name = "idx_tasks_user_status_created_at", columnList = "user_id, status, created_at, id"),
+    @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_tasks_user_updated_at", columnList = "user_id, updated_at, id"),
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    public static final String CACHE_REGION = "tasks";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
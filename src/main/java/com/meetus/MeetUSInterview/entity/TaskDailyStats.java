@@ -0,0 +1,43 @@
+package com.meetus.MeetUSInterview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+
+/**
+ * Number of a user's existing tasks created on a given day
+ */
+@Entity
+@Table(name = "task_daily_stats")
+@IdClass(TaskDailyStats.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate day;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate day;
+    }
+}
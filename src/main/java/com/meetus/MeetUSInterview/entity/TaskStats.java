@@ -0,0 +1,34 @@
+package com.meetus.MeetUSInterview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Per-user task counts by status, maintained in the same transaction as every task write
+ */
+@Entity
+@Table(name = "task_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "open_count", nullable = false)
+    private long openCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    /** Moves on every task write of the user; see TaskDataVersions */
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+}
@@ -0,0 +1,37 @@
+package com.meetus.MeetUSInterview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+
+/**
+ * Record of a deleted task, kept for the retention period so delta sync can report the deletion
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+    @Index(name = "idx_task_tombstones_user_deleted_at", columnList = "user_id, deleted_at, task_id"),
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    /** Task IDs are never reused, so the deleted task's ID identifies its tombstone */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime deletedAt;
+}
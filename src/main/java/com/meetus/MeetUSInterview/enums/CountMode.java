@@ -0,0 +1,31 @@
+package com.meetus.MeetUSInterview.enums;
+
+/**
+ * How a task page reports its totals
+ */
+public enum CountMode {
+    /** Runs a count query with the page's filters */
+    EXACT,
+    /** No totals; fetches one extra row to tell whether a next page exists */
+    NONE,
+    /** Totals from cached per-user, per-status counts; ignores search and date filters */
+    ESTIMATED;
+
+    public static CountMode fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+
+        String normalizedValue = value.trim().toLowerCase();
+        switch (normalizedValue) {
+            case "exact":
+                return EXACT;
+            case "none":
+                return NONE;
+            case "estimated":
+                return ESTIMATED;
+            default:
+                throw new IllegalArgumentException("Invalid count mode: " + value + ". Must be 'exact', 'none' or 'estimated'");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.meetus.MeetUSInterview.enums;
+
+/**
+ * File format of a task export
+ */
+public enum TaskExportFormat {
+    /** One JSON task object per line */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** RFC 4180 CSV with a header row */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static TaskExportFormat fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+
+        String normalizedValue = value.trim().toLowerCase();
+        switch (normalizedValue) {
+            case "ndjson":
+                return NDJSON;
+            case "csv":
+                return CSV;
+            default:
+                throw new IllegalArgumentException("Invalid export format: " + value + ". Must be 'ndjson' or 'csv'");
+        }
+    }
+}
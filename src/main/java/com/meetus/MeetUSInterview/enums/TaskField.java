@@ -0,0 +1,65 @@
+package com.meetus.MeetUSInterview.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Task attributes a listing can select with {@code fields=}
+ */
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    USER_ID("userId"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    /** Selected when no fields are requested: everything except the unbounded description */
+    public static final Set<TaskField> DEFAULTS = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(DESCRIPTION)));
+
+    private final String property;
+
+    TaskField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return entity property and response field name
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    public static TaskField fromString(String value) {
+        if (value != null) {
+            String normalizedValue = value.trim();
+            for (TaskField field : values()) {
+                if (field.property.equalsIgnoreCase(normalizedValue)) {
+                    return field;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid task field: " + value + ". Must be one of id, title, description, "
+                + "status, userId, createdAt, updatedAt");
+    }
+
+    /**
+     * @param fields comma-separated field names, or null/blank for the defaults
+     * @return requested fields, always including the ID
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULTS;
+        }
+
+        Set<TaskField> parsed = EnumSet.of(ID);
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                parsed.add(fromString(field));
+            }
+        }
+        return parsed;
+    }
+}
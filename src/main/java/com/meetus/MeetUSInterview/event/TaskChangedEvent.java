@@ -0,0 +1,38 @@
+package com.meetus.MeetUSInterview.event;
+
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by TaskService when a task is created, changes status or is deleted
+ * @param userId task owner
+ * @param taskId task ID
+ * @param previousStatus status before the change, null on creation
+ * @param newStatus status after the change, null on deletion
+ * @param createdAt task creation time
+ */
+public record TaskChangedEvent(Long userId, Long taskId, TaskStatus previousStatus, TaskStatus newStatus,
+                               LocalDateTime createdAt) {
+
+    public static TaskChangedEvent created(Long userId, Long taskId, TaskStatus status, LocalDateTime createdAt) {
+        return new TaskChangedEvent(userId, taskId, null, status, createdAt);
+    }
+
+    public static TaskChangedEvent statusChanged(Long userId, Long taskId, TaskStatus previousStatus,
+                                                 TaskStatus newStatus, LocalDateTime createdAt) {
+        return new TaskChangedEvent(userId, taskId, previousStatus, newStatus, createdAt);
+    }
+
+    public static TaskChangedEvent deleted(Long userId, Long taskId, TaskStatus status, LocalDateTime createdAt) {
+        return new TaskChangedEvent(userId, taskId, status, null, createdAt);
+    }
+
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+
+    public boolean isDeletion() {
+        return newStatus == null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.meetus.MeetUSInterview.exception;
 
 import com.meetus.MeetUSInterview.dto.response.APIResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -62,6 +63,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<APIResponse<Void>> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        APIResponse<Void> errorResponse = APIResponse.error(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<APIResponse<Void>> handleTooManyAttemptsException(TooManyAttemptsException ex) {
+        APIResponse<Void> errorResponse = APIResponse.error(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(org.springframework.security.core.AuthenticationException.class)
     public ResponseEntity<APIResponse<Void>> handleAuthenticationException(
             org.springframework.security.core.AuthenticationException ex) {
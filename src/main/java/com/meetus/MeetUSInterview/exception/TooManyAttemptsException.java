@@ -0,0 +1,17 @@
+package com.meetus.MeetUSInterview.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a client exceeds its attempt rate; mapped to 429 with a Retry-After header
+ */
+@Getter
+public class TooManyAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
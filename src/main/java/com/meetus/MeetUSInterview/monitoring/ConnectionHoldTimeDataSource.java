@@ -0,0 +1,73 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Measures how long each pooled connection is held, from checkout to close, tagged with the service
+ * method that held it (see {@link ServiceMethodContext}). Published as the {@code db.connection.hold} histogram.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    public static final String METRIC = "db.connection.hold";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    /**
+     * @param targetDataSource pooled data source
+     * @param meterRegistry resolved on first use, so wrapping the data source does not create the registry early
+     */
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, Supplier<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = Suppliers.memoize(meterRegistry::get);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        String method = ServiceMethodContext.current();
+        long start = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, invoked, args) -> {
+                    if ("close".equals(invoked.getName()) && closed.compareAndSet(false, true)) {
+                        timer(method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                    try {
+                        return invoked.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private Timer timer(String method) {
+        return Timer.builder(METRIC)
+                .tag("method", method)
+                .description("Time a JDBC connection is held between checkout and release")
+                .publishPercentileHistogram()
+                .register(meterRegistry.get());
+    }
+}
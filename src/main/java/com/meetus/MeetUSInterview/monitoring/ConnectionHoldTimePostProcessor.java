@@ -0,0 +1,39 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link ConnectionHoldTimeDataSource}
+ */
+@Component
+@Slf4j
+public class ConnectionHoldTimePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+
+    public ConnectionHoldTimePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.db.connection-hold-metrics.enabled:true}") boolean enabled
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ConnectionHoldTimeDataSource) {
+            return bean;
+        }
+
+        log.info("Recording connection hold time for data source '{}'", beanName);
+        return new ConnectionHoldTimeDataSource(dataSource, meterRegistry::getObject);
+    }
+}
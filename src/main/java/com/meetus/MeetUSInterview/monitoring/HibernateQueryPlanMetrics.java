@@ -0,0 +1,40 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes Hibernate's query plan cache statistics: hibernate.query.plan.cache tagged result=hit/miss, and
+ * hibernate.query.executions. A miss is a query string Hibernate had to parse and translate; with the task query
+ * templates precompiled at startup, listings should only ever hit.
+ * Needs hibernate.generate_statistics; without it nothing is registered.
+ */
+@Component
+@Slf4j
+public class HibernateQueryPlanMetrics {
+
+    public HibernateQueryPlanMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            log.info("Hibernate statistics are disabled, query plan cache metrics are not published");
+            return;
+        }
+
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheHitCount)
+                .tag("result", "hit")
+                .description("Hibernate query plan cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheMissCount)
+                .tag("result", "miss")
+                .description("Hibernate query plan cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.executions", statistics, Statistics::getQueryExecutionCount)
+                .description("HQL and JPQL queries executed")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate's second-level cache statistics per region: hibernate.second.level.cache.requests tagged
+ * region and result=hit/miss, and hibernate.second.level.cache.puts tagged region.
+ * Needs hibernate.generate_statistics; without it nothing is registered.
+ */
+@Component
+@Slf4j
+public class HibernateSecondLevelCacheMetrics {
+
+    public HibernateSecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            log.info("Hibernate statistics are disabled, second-level cache metrics are not published");
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            register(meterRegistry, statistics, region, "hibernate.second.level.cache.requests", "hit",
+                    CacheRegionStatistics::getHitCount);
+            register(meterRegistry, statistics, region, "hibernate.second.level.cache.requests", "miss",
+                    CacheRegionStatistics::getMissCount);
+            register(meterRegistry, statistics, region, "hibernate.second.level.cache.puts", null,
+                    CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private static void register(MeterRegistry meterRegistry, Statistics statistics, String region, String name,
+                                 String result, ToDoubleFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics,
+                        s -> count.applyAsDouble(s.getDomainDataRegionStatistics(region)))
+                .tag("region", region)
+                .description(result == null
+                        ? "Entities put into the Hibernate second-level cache"
+                        : "Hibernate second-level cache lookups");
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the running service method in {@link ServiceMethodContext}.
+ * Ordered outside the transaction interceptor so connections acquired and released by the transaction are attributed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMethodAspect {
+
+    @Around("execution(public * com.meetus.MeetUSInterview.service.UserService.*(..))"
+            + " || execution(public * com.meetus.MeetUSInterview.service.TaskService.*(..))")
+    public Object trackServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        boolean entered = ServiceMethodContext.enter(method);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (entered) {
+                ServiceMethodContext.exit();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+/**
+ * Name of the service method running on the current thread, e.g. {@code UserService.login}
+ */
+public final class ServiceMethodContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ServiceMethodContext() {
+    }
+
+    /**
+     * @return current service method, or {@link #NONE} outside of one
+     */
+    public static String current() {
+        String method = CURRENT.get();
+        return method != null ? method : NONE;
+    }
+
+    /**
+     * Enters a service method unless one is already running, so nested calls stay attributed to the outer one
+     * @param method service method name
+     * @return true if this call entered and must {@link #exit()}
+     */
+    static boolean enter(String method) {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(method);
+        return true;
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,37 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.service.TaskStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code taskstats} operator endpoint: recomputes the task statistics aggregates from {@code tasks}, for one
+ * user or for every user. Each user is rebuilt in its own transaction. Exposed over JMX only; the security
+ * configuration denies it over HTTP even if web exposure is widened.
+ */
+@Component
+@Endpoint(id = "taskstats")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsEndpoint {
+
+    private final TaskStatsService taskStatsService;
+    private final UserRepository userRepository;
+
+    @WriteOperation
+    public Map<String, Object> rebuild(@Nullable Long userId) {
+        List<Long> userIds = userId != null ? List.of(userId) : userRepository.findAllIds();
+        userIds.forEach(taskStatsService::rebuild);
+
+        log.info("Rebuilt task stats for {} users", userIds.size());
+        return Map.of("rebuiltUsers", userIds.size());
+    }
+}
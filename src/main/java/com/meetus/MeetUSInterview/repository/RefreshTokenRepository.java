@@ -0,0 +1,33 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Marks a token used only if it is still usable, so concurrent rotations of the same token cannot both succeed
+     * @return 1 if this call consumed the token, 0 otherwise
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.usedAt = :now "
+            + "where r.tokenHash = :tokenHash and r.usedAt is null and r.revoked = false and r.expiresAt > :now")
+    int markUsed(String tokenHash, Instant now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId and r.revoked = false")
+    int revokeFamily(String familyId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
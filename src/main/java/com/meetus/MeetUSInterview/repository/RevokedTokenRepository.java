@@ -0,0 +1,25 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,15 @@
+package com.meetus.MeetUSInterview.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delta sync position: how far the client has seen changed tasks, in (updatedAt, id) order, and tombstones,
+ * in (deletedAt, taskId) order
+ * @param tasksAt updatedAt of the last task seen
+ * @param taskId ID of the last task seen, tie-breaker for equal timestamps
+ * @param tombstonesAt deletedAt of the last tombstone seen
+ * @param tombstoneTaskId task ID of the last tombstone seen
+ */
+public record TaskChangesCursor(LocalDateTime tasksAt, Long taskId, LocalDateTime tombstonesAt,
+                                Long tombstoneTaskId) {
+}
@@ -0,0 +1,15 @@
+package com.meetus.MeetUSInterview.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position after the last task of a keyset page: its sort key plus its ID as tie-breaker
+ * @param sortBy sort field
+ * @param direction sort direction
+ * @param value last sort key, null when sorting by ID
+ * @param id last task ID
+ */
+public record TaskCursor(String sortBy, Sort.Direction direction, LocalDateTime value, Long id) {
+}
@@ -0,0 +1,32 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.entity.TaskDailyStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+@Repository
+public interface TaskDailyStatsRepository extends JpaRepository<TaskDailyStats, TaskDailyStats.Key> {
+
+    List<TaskDailyStats> findByUserIdAndDayBetweenOrderByDay(Long userId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from TaskDailyStats d where d.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    // Declares the one table written so the entity caches survive a rebuild
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_stats"))
+    @Query(value = "INSERT INTO task_daily_stats (user_id, stat_date, created_count) "
+            + "SELECT user_id, CAST(created_at AS DATE), COUNT(*) FROM tasks "
+            + "WHERE user_id = :userId GROUP BY user_id, CAST(created_at AS DATE)", nativeQuery = true)
+    int recompute(Long userId);
+}
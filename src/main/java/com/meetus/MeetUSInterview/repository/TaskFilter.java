@@ -0,0 +1,62 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.LongPredicate;
+
+/**
+ * Row criteria of a task listing, each one optional. Which criteria are present picks the query template,
+ * their values are bound as parameters.
+ * @param userId task owner
+ * @param status status filter
+ * @param fromDate earliest creation date, inclusive
+ * @param toDate latest creation date, inclusive
+ * @param search text matched anywhere in the title or description, case-insensitively
+ * @param ids restricts the rows to these task IDs, for searches answered by the search index
+ * @param cursor keyset position to seek past
+ * @param matches restricts the rows to task IDs it accepts, for searches with too many matches to bind as IDs;
+ *                tested against each row read, never part of the query
+ */
+public record TaskFilter(Long userId, TaskStatus status, LocalDateTime fromDate, LocalDateTime toDate,
+                         String search, Collection<Long> ids, TaskCursor cursor, LongPredicate matches) {
+
+    public TaskFilter(Long userId, TaskStatus status, LocalDateTime fromDate, LocalDateTime toDate,
+                      String search, Collection<Long> ids, TaskCursor cursor) {
+        this(userId, status, fromDate, toDate, search, ids, cursor, null);
+    }
+
+    /**
+     * Criteria of a listing request; blank status and search text are left out
+     */
+    public static TaskFilter of(Long userId, TaskSearchRequest request) {
+        TaskStatus status = request.getStatus() != null && !request.getStatus().isBlank()
+                ? TaskStatus.fromString(request.getStatus())
+                : null;
+        String search = request.getSearch() != null && !request.getSearch().isBlank() ? request.getSearch() : null;
+        return new TaskFilter(userId, status, request.getFromDate(), request.getToDate(), search, null, null);
+    }
+
+    /**
+     * @return this filter with the search text replaced by the IDs of the tasks it matched
+     */
+    public TaskFilter withIds(Collection<Long> ids) {
+        return new TaskFilter(userId, status, fromDate, toDate, null, ids, cursor, null);
+    }
+
+    /**
+     * @return this filter with the search text replaced by a test of the task IDs it matched
+     */
+    public TaskFilter withMatches(LongPredicate matches) {
+        return new TaskFilter(userId, status, fromDate, toDate, null, null, cursor, matches);
+    }
+
+    /**
+     * @return this filter restricted to rows strictly after the cursor in (sort key, id) order
+     */
+    public TaskFilter withCursor(TaskCursor cursor) {
+        return new TaskFilter(userId, status, fromDate, toDate, search, ids, cursor, matches);
+    }
+}
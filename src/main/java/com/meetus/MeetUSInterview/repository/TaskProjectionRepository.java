@@ -0,0 +1,44 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Task reads that need more control over the query than derived queries give
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * @param filter row criteria
+     * @param fields columns to select; other response fields stay null
+     * @param sort row order
+     * @param offset rows to skip
+     * @param limit most rows to return
+     * @return matching tasks, not attached to the persistence context
+     */
+    List<TaskResponse> findProjected(TaskFilter filter, Set<TaskField> fields, Sort sort, long offset, Limit limit);
+
+    /**
+     * @param filter row criteria
+     * @return number of matching tasks
+     */
+    long countMatching(TaskFilter filter);
+
+    /**
+     * Forward-only stream over matching tasks for bulk reads. Rows are fetched from the database
+     * {@code fetchSize} at a time and never become entities, so memory stays flat however many rows match.
+     * Must be consumed inside a transaction and closed, which releases the cursor.
+     * @param filter row criteria
+     * @param fields columns to select; other response fields stay null
+     * @param sort row order
+     * @param fetchSize rows per JDBC round trip
+     * @return matching tasks
+     */
+    Stream<TaskResponse> streamProjected(TaskFilter filter, Set<TaskField> fields, Sort sort, int fetchSize);
+}
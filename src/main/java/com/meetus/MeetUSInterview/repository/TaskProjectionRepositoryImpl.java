@@ -0,0 +1,161 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Listings run one precompiled JPQL template per query shape (see {@link TaskQueryTemplates}) as tuple queries over
+ * the selected columns; rows never become managed entities, so nothing is tracked for dirty checking and unselected
+ * columns (the TEXT description above all) are never read.
+ * <p>
+ * A filter with a {@link TaskFilter#matches() match test} walks the rows in the requested order and keeps those
+ * the test accepts: a page stops reading once it is full, which for a search matching many tasks is after a few
+ * rows more than the page holds.
+ */
+@Slf4j
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    /** Rows per JDBC round trip when rows are walked for a match test */
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TaskQueryTemplates templates = new TaskQueryTemplates();
+    private final boolean precompile;
+
+    TaskProjectionRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${app.tasks.query-templates.precompile:true}") boolean precompile
+    ) {
+        this.entityManager = entityManager;
+        this.precompile = precompile;
+    }
+
+    /**
+     * Runs one query of each common shape once the application is up, so Hibernate has parsed each template and
+     * translated it to SQL before listings need it. Listings arriving meanwhile compile their shape on first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompileTemplates() {
+        if (!precompile) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<TaskQueryTemplates.CommonQuery> queries = TaskQueryTemplates.commonQueries();
+        for (TaskQueryTemplates.CommonQuery query : queries) {
+            if (query.sort() == null) {
+                countMatching(query.filter());
+            } else {
+                findProjected(query.filter(), TaskField.DEFAULTS, query.sort(), 0, Limit.of(1));
+            }
+        }
+        log.info("Precompiled {} task query templates in {} ms", queries.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public List<TaskResponse> findProjected(TaskFilter filter, Set<TaskField> fields, Sort sort, long offset,
+                                            Limit limit) {
+        if (filter.ids() != null && filter.ids().isEmpty()) {
+            return List.of();
+        }
+        if (filter.matches() != null) {
+            try (Stream<TaskResponse> rows = streamProjected(filter, fields, sort, DEFAULT_FETCH_SIZE)) {
+                return rows.skip(offset).limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE).toList();
+            }
+        }
+
+        List<TaskField> selected = fields.stream().sorted().toList();
+        TypedQuery<Tuple> query = entityManager.createQuery(templates.select(filter, selected, sort), Tuple.class)
+                .setFirstResult(Math.toIntExact(offset));
+        TaskQueryTemplates.bind(query, filter);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+
+        return query.getResultList().stream()
+                .map(tuple -> toResponse(tuple, selected))
+                .toList();
+    }
+
+    @Override
+    public long countMatching(TaskFilter filter) {
+        if (filter.ids() != null && filter.ids().isEmpty()) {
+            return 0;
+        }
+        if (filter.matches() != null) {
+            try (Stream<TaskResponse> rows = streamProjected(filter, EnumSet.of(TaskField.ID), Sort.unsorted(),
+                    DEFAULT_FETCH_SIZE)) {
+                return rows.count();
+            }
+        }
+
+        TypedQuery<Long> query = entityManager.createQuery(templates.count(filter), Long.class);
+        TaskQueryTemplates.bind(query, filter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamProjected(TaskFilter filter, Set<TaskField> fields, Sort sort, int fetchSize) {
+        if (filter.ids() != null && filter.ids().isEmpty()) {
+            return Stream.empty();
+        }
+
+        // The match test needs each row's ID
+        Set<TaskField> columns = EnumSet.copyOf(fields);
+        if (filter.matches() != null) {
+            columns.add(TaskField.ID);
+        }
+
+        List<TaskField> selected = columns.stream().sorted().toList();
+        TypedQuery<Tuple> query = entityManager.createQuery(templates.select(filter, selected, sort), Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        TaskQueryTemplates.bind(query, filter);
+
+        Stream<TaskResponse> rows = query.getResultStream().map(tuple -> toResponse(tuple, selected));
+        if (filter.matches() == null) {
+            return rows;
+        }
+        return rows.filter(row -> filter.matches().test(row.getId()))
+                .peek(row -> {
+                    if (!fields.contains(TaskField.ID)) {
+                        row.setId(null);
+                    }
+                });
+    }
+
+    private static TaskResponse toResponse(Tuple tuple, List<TaskField> fields) {
+        TaskResponse response = new TaskResponse();
+        for (int i = 0; i < fields.size(); i++) {
+            Object value = tuple.get(i);
+            switch (fields.get(i)) {
+                case ID -> response.setId((Long) value);
+                case TITLE -> response.setTitle((String) value);
+                case DESCRIPTION -> response.setDescription((String) value);
+                case STATUS -> response.setStatus(((TaskStatus) value).getStringValue());
+                case USER_ID -> response.setUserId((Long) value);
+                case CREATED_AT -> response.setCreatedAt((LocalDateTime) value);
+                case UPDATED_AT -> response.setUpdatedAt((LocalDateTime) value);
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,216 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * JPQL for each shape of task listing query: which criteria of a {@link TaskFilter} are present, the selected
+ * fields and the sort. Criteria values are always bound as parameters, so a shape maps to one query string
+ * whatever the values. Hibernate caches the interpretation of a query string (and the SQL of a select once it
+ * has run), so reusing the same string per shape skips building and translating a Criteria tree per request.
+ */
+final class TaskQueryTemplates {
+
+    /** Sized like Hibernate's query plan cache (hibernate.query.plan_cache_max_size), which holds the compiled plans */
+    private static final int MAX_TEMPLATES = 2048;
+    private static final List<String> SORT_FIELDS = List.of("id", "title", "status", "createdAt", "updatedAt");
+    private static final List<String> CURSOR_SORT_FIELDS = List.of("id", "createdAt", "updatedAt");
+    /** Owner of the common queries run at startup; user IDs start at 1 */
+    private static final long NO_USER = 0L;
+
+    private final Cache<Shape, String> templates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TEMPLATES)
+            .build();
+
+    /**
+     * @param fields selected columns, in ordinal order; the tuple elements come back in this order
+     * @return JPQL selecting {@code fields} of the matching tasks
+     */
+    String select(TaskFilter filter, List<TaskField> fields, Sort sort) {
+        return template(Shape.of(filter, fields, sort));
+    }
+
+    /**
+     * @return JPQL counting the matching tasks
+     */
+    String count(TaskFilter filter) {
+        return template(Shape.of(filter, null, Sort.unsorted()));
+    }
+
+    /**
+     * Binds the filter's criteria to a query created from one of its templates
+     */
+    static void bind(Query query, TaskFilter filter) {
+        if (filter.userId() != null) {
+            query.setParameter("userId", filter.userId());
+        }
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.fromDate() != null) {
+            query.setParameter("fromDate", filter.fromDate());
+        }
+        if (filter.toDate() != null) {
+            query.setParameter("toDate", filter.toDate());
+        }
+        if (filter.search() != null) {
+            query.setParameter("search", "%" + filter.search().toLowerCase() + "%");
+        }
+        if (filter.ids() != null) {
+            query.setParameter("ids", filter.ids());
+        }
+        if (filter.cursor() != null) {
+            query.setParameter("cursorId", filter.cursor().id());
+            if (!"id".equals(filter.cursor().sortBy())) {
+                query.setParameter("cursorValue", filter.cursor().value());
+            }
+        }
+    }
+
+    /**
+     * One query of each shape a listing of the default fields can take: each combination of status, date and search
+     * criteria (as text or as index matches), with its count query, each sort (keyset sorts also with a cursor),
+     * and the unsorted lookup of relevance ranking. The criteria values match no task.
+     */
+    static List<CommonQuery> commonQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CommonQuery> queries = new ArrayList<>();
+
+        for (int criteria = 0; criteria < 16; criteria++) {
+            TaskStatus status = (criteria & 1) != 0 ? TaskStatus.OPEN : null;
+            LocalDateTime fromDate = (criteria & 2) != 0 ? now : null;
+            LocalDateTime toDate = (criteria & 4) != 0 ? now : null;
+            boolean search = (criteria & 8) != 0;
+
+            List<TaskFilter> filters = new ArrayList<>();
+            filters.add(new TaskFilter(NO_USER, status, fromDate, toDate, search ? "-" : null, null, null));
+            if (!search) {
+                filters.add(new TaskFilter(NO_USER, status, fromDate, toDate, null, List.of(0L), null));
+            }
+
+            for (TaskFilter filter : filters) {
+                queries.add(new CommonQuery(filter, null));
+                queries.add(new CommonQuery(filter, Sort.unsorted()));
+                for (String sortBy : SORT_FIELDS) {
+                    for (Sort.Direction direction : Sort.Direction.values()) {
+                        // Listings break ties between equal sort keys by ID
+                        Sort sort = "id".equals(sortBy)
+                                ? Sort.by(direction, "id")
+                                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+                        queries.add(new CommonQuery(filter, sort));
+                        if (CURSOR_SORT_FIELDS.contains(sortBy)) {
+                            queries.add(new CommonQuery(filter.withCursor(new TaskCursor(sortBy, direction, now, 0L)),
+                                    sort));
+                        }
+                    }
+                }
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * @param sort row order of the page query, null for the count query
+     */
+    record CommonQuery(TaskFilter filter, Sort sort) {
+    }
+
+    private String template(Shape shape) {
+        try {
+            return templates.get(shape, shape::render);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to render task query", e.getCause());
+        }
+    }
+
+    /**
+     * @param fields selected columns, null for the count query
+     * @param seekBy sort key of the cursor, null without one
+     */
+    private record Shape(List<TaskField> fields, boolean userId, boolean status, boolean fromDate, boolean toDate,
+                         boolean search, boolean ids, String seekBy, Sort.Direction seekDirection, Sort sort) {
+
+        static Shape of(TaskFilter filter, List<TaskField> fields, Sort sort) {
+            TaskCursor cursor = filter.cursor();
+            return new Shape(fields, filter.userId() != null, filter.status() != null, filter.fromDate() != null,
+                    filter.toDate() != null, filter.search() != null, filter.ids() != null,
+                    cursor == null ? null : cursor.sortBy(), cursor == null ? null : cursor.direction(), sort);
+        }
+
+        String render() {
+            StringBuilder jpql = new StringBuilder("select ");
+            if (fields == null) {
+                jpql.append("count(t)");
+            } else {
+                jpql.append(fields.stream().map(field -> "t." + field.getProperty()).collect(Collectors.joining(", ")));
+            }
+            jpql.append(" from Task t");
+
+            List<String> predicates = new ArrayList<>();
+            if (userId) {
+                predicates.add("t.userId = :userId");
+            }
+            if (status) {
+                predicates.add("t.status = :status");
+            }
+            if (fromDate) {
+                predicates.add("t.createdAt >= :fromDate");
+            }
+            if (toDate) {
+                predicates.add("t.createdAt <= :toDate");
+            }
+            if (search) {
+                predicates.add("(lower(t.title) like :search or lower(t.description) like :search)");
+            }
+            if (ids) {
+                predicates.add("t.id in :ids");
+            }
+            if (seekBy != null) {
+                predicates.add(seek());
+            }
+            if (!predicates.isEmpty()) {
+                jpql.append(" where ").append(String.join(" and ", predicates));
+            }
+
+            if (sort.isSorted()) {
+                jpql.append(" order by ").append(sort.stream()
+                        .map(order -> "t." + sortProperty(order) + (order.isAscending() ? " asc" : " desc"))
+                        .collect(Collectors.joining(", ")));
+            }
+            return jpql.toString();
+        }
+
+        /**
+         * Seek predicate for keyset pagination: rows strictly after the cursor in (sort key, id) order
+         */
+        private String seek() {
+            String operator = seekDirection == Sort.Direction.ASC ? " > " : " < ";
+            if ("id".equals(seekBy)) {
+                return "t.id" + operator + ":cursorId";
+            }
+            String key = "t." + TaskField.fromString(seekBy).getProperty();
+            return "(" + key + operator + ":cursorValue or (" + key + " = :cursorValue and t.id" + operator + ":cursorId))";
+        }
+
+        /**
+         * Only entity properties may reach the query text
+         */
+        private static String sortProperty(Sort.Order order) {
+            String property = TaskField.fromString(order.getProperty()).getProperty();
+            if (!SORT_FIELDS.contains(property)) {
+                throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+            }
+            return property;
+        }
+    }
+}
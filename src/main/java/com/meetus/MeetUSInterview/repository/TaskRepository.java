@@ -1,13 +1,57 @@
 package com.meetus.MeetUSInterview.repository;
 
 import com.meetus.MeetUSInterview.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskProjectionRepository {
+
+    /**
+     * One query for any number of IDs; with hibernate.query.in_clause_parameter_padding the IN list is padded to
+     * the next power of two, so a few statement shapes cover every batch size
+     * @return the user's tasks among the given IDs, in no particular order
+     */
+    List<Task> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    /**
+     * Delta sync read, served by idx_tasks_user_updated_at
+     * @return the user's tasks modified after the (updatedAt, id) position, oldest change first
+     */
+    @Query("select t from Task t where t.userId = :userId "
+            + "and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) "
+            + "order by t.updatedAt, t.id")
+    List<Task> findChangedAfter(Long userId, LocalDateTime updatedAt, Long id, Limit limit);
+
+    /**
+     * @return last modification time of the user's task, without loading the task
+     */
+    @Query("select t.updatedAt from Task t where t.id = :id and t.userId = :userId")
+    Optional<LocalDateTime> findUpdatedAt(Long id, Long userId);
 
+    /**
+     * @return rows of [Long id, String title, String description] for the user's tasks
+     */
+    @Query("select t.id, t.title, t.description from Task t where t.userId = :userId")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamSearchableByUserId(Long userId);
 
+    /**
+     * @return rows of [Long id, String title, TaskStatus status, LocalDateTime createdAt, LocalDateTime updatedAt]
+     * for the user's tasks, in ID order
+     */
+    @Query("select t.id, t.title, t.status, t.createdAt, t.updatedAt from Task t where t.userId = :userId order by t.id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamColumnsByUserId(Long userId);
 }
@@ -0,0 +1,35 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.entity.TaskStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+
+@Repository
+public interface TaskStatsRepository extends JpaRepository<TaskStats, Long> {
+
+    @Modifying
+    @Query("delete from TaskStats s where s.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    // Only task_stats is written; without the declared space Hibernate would clear every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_stats"))
+    @Query(value = "INSERT INTO task_stats (user_id, open_count, done_count, data_version) "
+            + "SELECT :userId, "
+            + "COALESCE(SUM(CASE WHEN status = 'OPEN' THEN 1 ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN status = 'DONE' THEN 1 ELSE 0 END), 0), "
+            + ":dataVersion "
+            + "FROM tasks WHERE user_id = :userId", nativeQuery = true)
+    int recompute(Long userId, long dataVersion);
+
+    @Query("select s.dataVersion from TaskStats s where s.userId = :userId")
+    Optional<Long> findDataVersion(Long userId);
+}
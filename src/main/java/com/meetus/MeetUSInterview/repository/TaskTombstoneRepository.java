@@ -0,0 +1,30 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * @return the user's tombstones after the (deletedAt, taskId) position, oldest first
+     */
+    @Query("select t from TaskTombstone t where t.userId = :userId "
+            + "and (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.taskId > :taskId)) "
+            + "order by t.deletedAt, t.taskId")
+    List<TaskTombstone> findAfter(Long userId, LocalDateTime deletedAt, Long taskId, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(LocalDateTime cutoff);
+}
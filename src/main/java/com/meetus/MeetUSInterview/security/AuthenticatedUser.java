@@ -0,0 +1,40 @@
+package com.meetus.MeetUSInterview.security;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Lightweight principal built from verified token claims, without loading the user from the database
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+
+    public AuthenticatedUser(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return id.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.meetus.MeetUSInterview.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt strength for this machine: the highest cost whose hash time stays within the target latency.
+ * A fixed strength can be configured to skip calibration.
+ */
+@Component
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final int fixedStrength;
+    private final long targetLatencyMillis;
+    private final int minStrength;
+    private final int maxStrength;
+
+    public BCryptStrengthCalibrator(
+            @Value("${security.password.bcrypt.strength:0}") int fixedStrength,
+            @Value("${security.password.bcrypt.target-latency-ms:50}") long targetLatencyMillis,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:16}") int maxStrength
+    ) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy 4 <= min <= max <= 31");
+        }
+        this.fixedStrength = fixedStrength;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+
+    /**
+     * @return configured strength, or the calibrated one if none is configured
+     */
+    public int resolveStrength() {
+        if (fixedStrength > 0) {
+            log.info("Using configured BCrypt strength {}", fixedStrength);
+            return fixedStrength;
+        }
+
+        // Warm up the JIT so the first measurement is not inflated
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long latency = measure(strength);
+            log.debug("BCrypt strength {} takes {} ms", strength, latency);
+
+            if (latency > targetLatencyMillis) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("Calibrated BCrypt strength {} for a target latency of {} ms (floor {})",
+                chosen, targetLatencyMillis, minStrength);
+        return chosen;
+    }
+
+    private long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long[] samples = new long[SAMPLES];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
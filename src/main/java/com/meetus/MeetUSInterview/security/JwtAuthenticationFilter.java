@@ -1,5 +1,6 @@
 package com.meetus.MeetUSInterview.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +10,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,15 +24,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     private final JwtUtil jwtService;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtPrincipalResolver principalResolver;
+    private final TokenRevocationStore tokenRevocationStore;
 
     public JwtAuthenticationFilter(
             JwtUtil jwtService,
-            UserDetailsService userDetailsService,
+            VerifiedTokenCache verifiedTokenCache,
+            JwtPrincipalResolver principalResolver,
+            TokenRevocationStore tokenRevocationStore,
             HandlerExceptionResolver handlerExceptionResolver
     ) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.principalResolver = principalResolver;
+        this.tokenRevocationStore = tokenRevocationStore;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -58,18 +64,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             final String jwt = authHeader.substring(7);
             log.debug("Extracted JWT token: {}...", jwt.substring(0, Math.min(20, jwt.length())));
             
-            final String userId = jwtService.extractUserId(jwt);
+            // Verify once; every later check works on these claims
+            final Claims claims = verifiedTokenCache.verify(jwt, jwtService::parseToken);
+            final String userId = claims.getSubject();
             log.debug("Extracted user ID from token: {}", userId);
 
+            if (tokenRevocationStore.isRevoked(claims.getId(), claims.getExpiration().getTime())) {
+                log.warn("Rejected revoked token for user ID: {}", userId);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             log.debug("Current authentication: {}", authentication != null ? "Already authenticated" : "Not authenticated");
 
             if (userId != null && authentication == null) {
-                log.debug("Loading user details for ID: {}", userId);
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userId);
-                log.debug("User details loaded successfully for ID: {}", userId);
+                log.debug("Resolving principal for ID: {}", userId);
+                UserDetails userDetails = principalResolver.resolve(claims);
+                log.debug("Principal resolved successfully for ID: {}", userId);
 
-                boolean isTokenValid = jwtService.isTokenValid(jwt, userDetails);
+                boolean isTokenValid = jwtService.isTokenValid(claims, userDetails);
                 log.debug("Token validation result: {}", isTokenValid);
                 
                 if (isTokenValid) {
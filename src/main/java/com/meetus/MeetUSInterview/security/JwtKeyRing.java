@@ -0,0 +1,121 @@
+package com.meetus.MeetUSInterview.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of JWT keys indexed by their {@code kid} header.
+ * One key signs new tokens, every key in the ring verifies. Keys and the parser are built once at startup.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
+    /**
+     * @param secretKey Base64 secret of the signing key
+     * @param signingKeyId kid written into new tokens
+     * @param additionalKeys comma separated {@code kid:base64Secret} pairs that are accepted for verification only
+     */
+    public JwtKeyRing(
+            @Value("${security.jwt.secret-key}") String secretKey,
+            @Value("${security.jwt.key-id:primary}") String signingKeyId,
+            @Value("${security.jwt.verification-keys:}") String additionalKeys
+    ) {
+        this.signingKeyId = signingKeyId;
+        this.signingKey = decodeKey(secretKey);
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(signingKeyId, signingKey);
+        keys.putAll(parseAdditionalKeys(additionalKeys));
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new KidLocator())
+                .build();
+
+        log.info("JwtKeyRing initialized with signing key '{}' and verification keys {}", signingKeyId, keys.keySet());
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    public SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    public Set<String> getVerificationKeyIds() {
+        return verificationKeys.keySet();
+    }
+
+    /**
+     * @return shared, thread-safe parser that resolves the verification key from the token's kid header
+     */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    private Map<String, SecretKey> parseAdditionalKeys(String additionalKeys) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        if (additionalKeys == null || additionalKeys.isBlank()) {
+            return keys;
+        }
+
+        for (String entry : additionalKeys.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalArgumentException("Invalid verification key entry, expected kid:secret");
+            }
+
+            String kid = trimmed.substring(0, separator);
+            if (kid.equals(signingKeyId) || keys.containsKey(kid)) {
+                throw new IllegalArgumentException("Duplicate JWT key id: " + kid);
+            }
+            keys.put(kid, decodeKey(trimmed.substring(separator + 1)));
+        }
+        return keys;
+    }
+
+    private static SecretKey decodeKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+
+    private class KidLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(ProtectedHeader header) {
+            String kid = header.getKeyId();
+            // Tokens issued before key ids were introduced carry no kid
+            if (kid == null) {
+                return signingKey;
+            }
+
+            SecretKey key = verificationKeys.get(kid);
+            if (key == null) {
+                throw new JwtException("Unknown JWT key id: " + kid);
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the request principal from verified token claims.
+ * <ul>
+ *     <li>{@code token} - the claims alone produce an {@link AuthenticatedUser}, no database access</li>
+ *     <li>{@code database} - the user is loaded through {@link UserDetailsService}, optionally through a TTL cache</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class JwtPrincipalResolver {
+
+    public enum PrincipalSource {
+        TOKEN,
+        DATABASE
+    }
+
+    private final PrincipalSource source;
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> userCache;
+
+    public JwtPrincipalResolver(
+            UserDetailsService userDetailsService,
+            @Value("${security.jwt.principal-source:token}") String source,
+            @Value("${security.jwt.principal-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${security.jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.jwt.principal-cache.max-size:10000}") long maxSize
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.source = PrincipalSource.valueOf(source.trim().toUpperCase());
+        this.userCache = cacheEnabled
+                ? CacheBuilder.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                    .build()
+                : null;
+
+        log.info("JwtPrincipalResolver initialized (source: {}, user cache: {})", this.source, cacheEnabled);
+    }
+
+    /**
+     * @param claims verified token claims
+     * @return principal for the token subject
+     */
+    public UserDetails resolve(Claims claims) {
+        String userId = claims.getSubject();
+
+        if (source == PrincipalSource.TOKEN) {
+            return new AuthenticatedUser(Long.parseLong(userId));
+        }
+
+        if (userCache == null) {
+            return userDetailsService.loadUserByUsername(userId);
+        }
+
+        UserDetails cached = userCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails loaded = userDetailsService.loadUserByUsername(userId);
+        userCache.put(userId, loaded);
+        return loaded;
+    }
+
+    /**
+     * Drops a cached principal, e.g. after the user's credentials changed
+     * @param userId user ID
+     */
+    public void invalidate(Long userId) {
+        if (userCache != null) {
+            userCache.invalidate(String.valueOf(userId));
+        }
+    }
+
+    public void invalidateAll() {
+        if (userCache != null) {
+            userCache.invalidateAll();
+        }
+    }
+
+    public PrincipalSource getSource() {
+        return source;
+    }
+}
@@ -2,12 +2,10 @@ package com.meetus.MeetUSInterview.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -19,12 +17,15 @@ import com.meetus.MeetUSInterview.entity.User;
 @Component
 @Slf4j
 public class JwtUtil {
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
+    private final JwtKeyRing keyRing;
 
     @Value("${security.jwt.expiration-time}")
     private long jwtExpiration;
 
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
     public String extractUserId(String token) {
         try {
             String userId = extractClaim(token, Claims::getSubject);
@@ -68,11 +69,13 @@ public class JwtUtil {
     ) {
         return Jwts
                 .builder()
+                .header().keyId(keyRing.getSigningKeyId()).and()
                 .claims(extraClaims)
                 .subject(subject)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(keyRing.getSigningKey())
                 .compact();
     }
 
@@ -99,6 +102,39 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Checks already verified claims against the loaded user without parsing the token again
+     * @param claims claims returned by {@link #parseToken(String)}
+     * @param userDetails user the token is expected to belong to
+     * @return true if the subject matches and the token is not expired
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        // Principals expose the user ID as their username
+        String expectedUserId = userDetails.getUsername();
+        boolean userIdMatches = expectedUserId.equals(claims.getSubject());
+        boolean tokenNotExpired = !claims.getExpiration().before(new Date());
+
+        log.debug("Token validation - User ID matches: {}, Token expired: {}", userIdMatches, !tokenNotExpired);
+
+        if (!userIdMatches) {
+            log.warn("Token user ID '{}' does not match user ID '{}'", claims.getSubject(), expectedUserId);
+        }
+        if (!tokenNotExpired) {
+            log.warn("Token has expired for user ID: {}", expectedUserId);
+        }
+
+        return userIdMatches && tokenNotExpired;
+    }
+
+    /**
+     * Verifies the token signature and expiration once and returns its claims
+     * @param token JWT token
+     * @return verified claims
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
     private boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
@@ -109,9 +145,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) getSignInKey())
-                    .build()
+            return keyRing.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (Exception e) {
@@ -119,9 +153,4 @@ public class JwtUtil {
             throw e;
         }
     }
-
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
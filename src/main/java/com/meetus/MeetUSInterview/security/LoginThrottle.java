@@ -0,0 +1,156 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.meetus.MeetUSInterview.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Token-bucket limiter for login attempts, keyed by email and by client address.
+ * <p>
+ * Keys are hashed into a fixed number of stripes, so memory stays constant however many distinct
+ * emails or addresses arrive; colliding keys share a bucket, which only errs on the strict side.
+ * Each bucket is one packed {@code long} (refill timestamp and token count) updated by CAS.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    /** Tokens are kept in thousandths so slow refill rates still accumulate */
+    private static final long SCALE = 1000;
+    private static final long MAX_CAPACITY = TOKEN_MASK / SCALE;
+
+    private final boolean enabled;
+    private final long epochMillis = System.currentTimeMillis();
+    // Random seed so clients cannot pick keys that collide with someone else's stripe
+    private final HashFunction hashFunction = Hashing.murmur3_32_fixed(new SecureRandom().nextInt());
+
+    private final Limiter emailLimiter;
+    private final Limiter addressLimiter;
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${security.login-throttle.stripes:65536}") int stripes,
+            @Value("${security.login-throttle.email.capacity:5}") long emailCapacity,
+            @Value("${security.login-throttle.email.refill-per-minute:5}") long emailRefillPerMinute,
+            @Value("${security.login-throttle.address.capacity:20}") long addressCapacity,
+            @Value("${security.login-throttle.address.refill-per-minute:60}") long addressRefillPerMinute,
+            MeterRegistry meterRegistry
+    ) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Login throttle stripes must be a power of two");
+        }
+        this.enabled = enabled;
+        this.emailLimiter = new Limiter("email", stripes, emailCapacity, emailRefillPerMinute, meterRegistry);
+        this.addressLimiter = new Limiter("address", stripes, addressCapacity, addressRefillPerMinute, meterRegistry);
+
+        log.info("LoginThrottle initialized (enabled: {}, stripes: {})", enabled, stripes);
+    }
+
+    /**
+     * Consumes one attempt for the email and the client address
+     * @param email login email
+     * @param remoteAddress client address, may be null
+     * @throws TooManyAttemptsException if either bucket is empty; a rejected attempt costs neither bucket
+     */
+    public void checkAttempt(String email, String remoteAddress) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis() - epochMillis;
+        int addressStripe = remoteAddress != null ? stripe(remoteAddress, addressLimiter) : -1;
+        if (addressStripe >= 0) {
+            addressLimiter.acquire(addressStripe, now);
+        }
+        if (email != null) {
+            try {
+                emailLimiter.acquire(stripe(email.trim().toLowerCase(Locale.ROOT), emailLimiter), now);
+            } catch (TooManyAttemptsException e) {
+                if (addressStripe >= 0) {
+                    addressLimiter.refund(addressStripe);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private int stripe(String key, Limiter limiter) {
+        return hashFunction.hashString(key, StandardCharsets.UTF_8).asInt() & limiter.mask;
+    }
+
+    private static final class Limiter {
+
+        private final String name;
+        private final AtomicLongArray state;
+        private final int mask;
+        private final long capacity;
+        private final double refillPerMilli;
+        private final Counter throttled;
+
+        private Limiter(String name, int stripes, long capacity, long refillPerMinute, MeterRegistry meterRegistry) {
+            if (capacity < 1 || capacity > MAX_CAPACITY || refillPerMinute < 1) {
+                throw new IllegalArgumentException("Login throttle " + name
+                        + " capacity must be within 1.." + MAX_CAPACITY + " and refill rate at least 1 per minute");
+            }
+            this.name = name;
+            this.state = new AtomicLongArray(stripes);
+            this.mask = stripes - 1;
+            this.capacity = capacity * SCALE;
+            this.refillPerMilli = refillPerMinute * SCALE / 60_000.0;
+            this.throttled = Counter.builder("security.login.throttled")
+                    .tag("key", name)
+                    .description("Login attempts rejected by the throttle")
+                    .register(meterRegistry);
+        }
+
+        private void acquire(int stripe, long now) {
+            while (true) {
+                long current = state.get(stripe);
+                long last = current >>> TOKEN_BITS;
+                // An untouched slot is a full bucket
+                long tokens = current == 0
+                        ? capacity
+                        : Math.min(capacity, (current & TOKEN_MASK) + (long) ((now - last) * refillPerMilli));
+
+                if (tokens < SCALE) {
+                    throttled.increment();
+                    long waitMillis = (long) Math.ceil((SCALE - tokens) / refillPerMilli);
+                    log.debug("Login throttled by {} bucket {}", name, stripe);
+                    throw new TooManyAttemptsException("Too many login attempts, please retry later",
+                            Math.max(1, (waitMillis + 999) / 1000));
+                }
+
+                long next = (Math.max(now, 1) << TOKEN_BITS) | (tokens - SCALE);
+                if (state.compareAndSet(stripe, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Gives back a token taken by {@link #acquire} for an attempt that was rejected elsewhere
+         */
+        private void refund(int stripe) {
+            while (true) {
+                long current = state.get(stripe);
+                long tokens = Math.min(capacity, (current & TOKEN_MASK) + SCALE);
+                long next = (current & ~TOKEN_MASK) | tokens;
+                if (current == 0 || state.compareAndSet(stripe, current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool that runs password hashing off the request threads.
+ * When all workers are busy and the queue is full, callers fail fast with {@link ServiceOverloadedException}.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Map<String, Timer> timers;
+    private final Counter rejections;
+
+    public PasswordHashingExecutor(
+            @Value("${security.password.hashing.pool-size:4}") int poolSize,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:10000}") long timeoutMillis,
+            @Value("${security.password.hashing.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.timers = Map.of(
+                "encode", hashingTimer("encode", meterRegistry),
+                "matches", hashingTimer("matches", meterRegistry)
+        );
+
+        this.rejections = Counter.builder("security.password.hashing.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing workers currently busy")
+                .register(meterRegistry);
+
+        log.info("PasswordHashingExecutor initialized (pool size: {}, queue capacity: {})", poolSize, queueCapacity);
+    }
+
+    /**
+     * Runs a hashing operation on the pool and waits for its result
+     * @param operation metric tag, "encode" or "matches"
+     * @param task hashing work
+     * @return task result
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer timer = timers.get(operation);
+        if (timer == null) {
+            throw new IllegalArgumentException("Unknown password hashing operation: " + operation);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Password hashing pool saturated, rejecting {} request", operation);
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            log.warn("Password hashing {} timed out after {} ms", operation, timeoutMillis);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("security.password.hashing")
+                .tag("operation", operation)
+                .description("Time spent computing password hashes")
+                .register(meterRegistry);
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Authentication service is busy, please retry later", retryAfterSeconds);
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
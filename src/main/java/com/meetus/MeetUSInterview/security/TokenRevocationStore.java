@@ -0,0 +1,170 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.entity.RevokedToken;
+import com.meetus.MeetUSInterview.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Revoked token IDs ({@code jti}) grouped in buckets by the hour their tokens expire.
+ * <p>
+ * Buckets live in a ring sized to the longest lifetime of any token still in circulation, so a lookup is an array read plus a
+ * concurrent set probe: no locks and no allocation. Once an hour has passed its whole bucket is dropped,
+ * since every token in it has expired anyway. Revocations are persisted and reloaded on startup, and
+ * periodically re-synced so revocations made by other instances are picked up.
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 3_600_000L;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private volatile AtomicReferenceArray<Bucket> buckets;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationStore(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${security.jwt.expiration-time}") long tokenLifetime,
+            @Value("${security.jwt.revocation.max-token-lifetime-ms:86400000}") long maxTokenLifetime
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        // Tokens issued under an earlier, longer expiration-time are still in circulation and may be revoked
+        this.buckets = new AtomicReferenceArray<>(slotsFor(Math.max(tokenLifetime, maxTokenLifetime)));
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        // Persisted revocations may outlive the configured lifetimes, so the ring must reach the latest of them
+        long longest = revoked.stream()
+                .mapToLong(token -> token.getExpiresAt().toEpochMilli() - now.toEpochMilli())
+                .max()
+                .orElse(0);
+        if (slotsFor(longest) > buckets.length()) {
+            buckets = new AtomicReferenceArray<>(slotsFor(longest));
+        }
+
+        revoked.forEach(token -> addLocal(token.getJti(), token.getExpiresAt().toEpochMilli()));
+        lastSync = now;
+
+        log.info("TokenRevocationStore loaded {} revoked tokens into {} buckets", revoked.size(), buckets.length());
+    }
+
+    /**
+     * @param jti token ID, may be null for tokens issued before IDs were added
+     * @param expiresAtMillis token expiration in epoch millis
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String jti, long expiresAtMillis) {
+        if (jti == null) {
+            return false;
+        }
+
+        long hour = expiresAtMillis / BUCKET_MILLIS;
+        AtomicReferenceArray<Bucket> ring = buckets;
+        Bucket bucket = ring.get(slot(ring, hour));
+        return bucket != null && bucket.hour == hour && bucket.ids.contains(jti);
+    }
+
+    /**
+     * Revokes a token until its natural expiration
+     * @param jti token ID
+     * @param expiresAtMillis token expiration in epoch millis
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+
+        // The primary key is the source of truth, also for concurrent logouts with the same token
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(Instant.ofEpochMilli(expiresAtMillis))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Token {} was already revoked", jti);
+        }
+        addLocal(jti, expiresAtMillis);
+        log.info("Revoked token {} until {}", jti, Instant.ofEpochMilli(expiresAtMillis));
+    }
+
+    /**
+     * Drops buckets whose tokens have all expired, and their persisted rows
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.cleanup-interval-ms:300000}")
+    public void evictExpired() {
+        long currentHour = System.currentTimeMillis() / BUCKET_MILLIS;
+        AtomicReferenceArray<Bucket> ring = buckets;
+        int dropped = 0;
+
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.hour < currentHour && ring.compareAndSet(i, bucket, null)) {
+                dropped++;
+            }
+        }
+
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        log.debug("Revocation cleanup dropped {} buckets and {} persisted tokens", dropped, deleted);
+    }
+
+    /**
+     * Picks up revocations persisted by other instances since the last sync
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minusSeconds(5), now)
+                .forEach(token -> addLocal(token.getJti(), token.getExpiresAt().toEpochMilli()));
+        lastSync = now;
+    }
+
+    private void addLocal(String jti, long expiresAtMillis) {
+        long hour = expiresAtMillis / BUCKET_MILLIS;
+        AtomicReferenceArray<Bucket> ring = buckets;
+        int slot = slot(ring, hour);
+
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.hour == hour) {
+                bucket.ids.add(jti);
+                return;
+            }
+            if (bucket != null && bucket.hour > hour) {
+                // Slot already reused for a later hour, so this token has expired
+                return;
+            }
+            Bucket fresh = new Bucket(hour, ConcurrentHashMap.newKeySet());
+            fresh.ids.add(jti);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return;
+            }
+        }
+    }
+
+    private static int slot(AtomicReferenceArray<Bucket> ring, long hour) {
+        return (int) (hour % ring.length());
+    }
+
+    private static int slotsFor(long lifetimeMillis) {
+        // Every unexpired token falls within the current hour plus the lifetime span, so slots never collide
+        return (int) (lifetimeMillis / BUCKET_MILLIS) + 2;
+    }
+
+    private record Bucket(long hour, Set<String> ids) {
+    }
+}
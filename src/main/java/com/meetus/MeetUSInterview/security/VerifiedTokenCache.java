@@ -0,0 +1,99 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already verified JWT claims, keyed by a SHA-256 digest of the token.
+ * Entries are never served past the token's own expiration.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<HashCode, Claims> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(
+            @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+            @Value("${security.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${security.jwt.expiration-time}") long maxTokenLifetime,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTokenLifetime, TimeUnit.MILLISECONDS)
+                .build();
+        this.hits = Counter.builder("security.jwt.cache")
+                .tag("result", "hit")
+                .description("Verified token cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.jwt.cache")
+                .tag("result", "miss")
+                .description("Verified token cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.cache.size", cache, Cache::size)
+                .description("Number of verified tokens currently cached")
+                .register(meterRegistry);
+
+        log.info("VerifiedTokenCache initialized (enabled: {}, max size: {})", enabled, maxSize);
+    }
+
+    /**
+     * Returns the cached claims for the token, or verifies it and caches the result
+     * @param token raw JWT token
+     * @param verifier function performing the full signature verification
+     * @return verified claims
+     */
+    public Claims verify(String token, Function<String, Claims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        Claims cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                hits.increment();
+                return cached;
+            }
+            cache.invalidate(key);
+        }
+
+        misses.increment();
+        Claims claims = verifier.apply(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+}
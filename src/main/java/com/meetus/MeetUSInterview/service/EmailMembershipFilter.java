@@ -0,0 +1,87 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of registered emails.
+ * A negative answer means the email is definitely not registered, so signup can skip the existence query.
+ * Until the filter is warmed from the users table every email is reported as possibly present.
+ */
+@Component
+@Slf4j
+public class EmailMembershipFilter {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final BloomFilter<CharSequence> filter;
+    private volatile boolean ready;
+
+    public EmailMembershipFilter(
+            UserRepository userRepository,
+            @Value("${app.users.email-filter.enabled:true}") boolean enabled,
+            @Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Loads every registered email. Emails added concurrently through {@link #add(String)} are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        long count = 0;
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            Iterator<String> iterator = emails.iterator();
+            while (iterator.hasNext()) {
+                filter.put(iterator.next());
+                count++;
+            }
+        }
+        ready = true;
+
+        log.info("Email membership filter warmed with {} emails", count);
+        if (count > expectedInsertions) {
+            log.warn("Email membership filter holds more emails ({}) than sized for ({}); false positives will rise",
+                    count, expectedInsertions);
+        }
+    }
+
+    /**
+     * @param email email address
+     * @return false only if the email is definitely not registered
+     */
+    public boolean mightContain(String email) {
+        return !ready || filter.mightContain(email);
+    }
+
+    public void add(String email) {
+        filter.put(email);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
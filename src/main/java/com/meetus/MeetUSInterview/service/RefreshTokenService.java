@@ -0,0 +1,124 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.hash.Hashing;
+import com.meetus.MeetUSInterview.entity.RefreshToken;
+import com.meetus.MeetUSInterview.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens.
+ * <p>
+ * Only the SHA-256 of a token is stored, so validating one is a primary key lookup with no password hashing.
+ * Every refresh consumes the presented token and issues a successor in the same family. Presenting a token
+ * that was already consumed means it leaked (or a client replayed it), so the whole family is revoked.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.jwt.refresh.expiration-time:1209600000}") long refreshExpiration
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    /**
+     * Starts a new token family, e.g. on login
+     * @param userId token owner
+     * @return refresh token
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes a refresh token and issues its successor
+     * @param token presented refresh token
+     * @return owner and successor token
+     * @throws BadCredentialsException if the token is unknown, expired, revoked or already used
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String token) {
+        String tokenHash = hash(token);
+        RefreshToken current = refreshTokenRepository.findById(tokenHash)
+                .orElseThrow(RefreshTokenService::invalidToken);
+
+        Instant now = Instant.now();
+        if (refreshTokenRepository.markUsed(tokenHash, now) == 0) {
+            if (!current.isRevoked() && current.getExpiresAt().isAfter(now)) {
+                // Valid but already consumed, including by a concurrent request: treat as stolen
+                int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+                log.warn("Refresh token reuse detected for user ID: {}, revoked {} tokens of family {}",
+                        current.getUserId(), revoked, current.getFamilyId());
+            }
+            throw invalidToken();
+        }
+
+        return new Rotation(current.getUserId(), create(current.getUserId(), current.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of a refresh token, e.g. on logout; unknown tokens are ignored
+     * @param token refresh token
+     */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findById(hash(token))
+                .ifPresent(current -> refreshTokenRepository.revokeFamily(current.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.refresh.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.debug("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(Instant.now().plusMillis(refreshExpiration))
+                .build());
+        return token;
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+
+    private static BadCredentialsException invalidToken() {
+        return new BadCredentialsException("Invalid refresh token");
+    }
+
+    /**
+     * @param userId owner of the consumed token
+     * @param refreshToken successor token
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.meetus.MeetUSInterview.repository.TaskChangesCursor;
+import com.meetus.MeetUSInterview.repository.TaskCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes {@link TaskCursor}s and {@link TaskChangesCursor}s as opaque strings signed with HMAC-SHA256 and bound to the requesting user,
+ * so clients cannot forge positions or replay another user's cursor.
+ */
+@Component
+public class TaskCursorCodec {
+
+    private static final int SIGNATURE_BYTES = 16;
+    private static final String SEPARATOR = "|";
+    private static final String CHANGES_MARKER = "changes";
+
+    private final HashFunction hmac;
+
+    public TaskCursorCodec(@Value("${app.tasks.cursor.secret:${security.jwt.secret-key}}") String secret) {
+        this.hmac = Hashing.hmacSha256(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String encode(TaskCursor cursor, Long userId) {
+        return seal(String.join(SEPARATOR,
+                String.valueOf(userId),
+                cursor.sortBy(),
+                cursor.direction().name(),
+                cursor.value() != null ? cursor.value().toString() : "",
+                String.valueOf(cursor.id())));
+    }
+
+    /**
+     * @param token cursor from a previous page
+     * @param userId requesting user
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed, tampered with or issued to another user
+     */
+    public TaskCursor decode(String token, Long userId) {
+        try {
+            String[] parts = open(token);
+            if (parts.length != 5 || !parts[0].equals(String.valueOf(userId))) {
+                throw invalidCursor();
+            }
+
+            return new TaskCursor(
+                    parts[1],
+                    Sort.Direction.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]),
+                    Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Unparsable values
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * Encodes a delta sync position; it is marked so it cannot be passed off as a pagination cursor or vice versa
+     */
+    public String encodeChanges(TaskChangesCursor cursor, Long userId) {
+        return seal(String.join(SEPARATOR,
+                CHANGES_MARKER,
+                String.valueOf(userId),
+                cursor.tasksAt().toString(),
+                String.valueOf(cursor.taskId()),
+                cursor.tombstonesAt().toString(),
+                String.valueOf(cursor.tombstoneTaskId())));
+    }
+
+    /**
+     * @param token cursor from a previous delta sync
+     * @param userId requesting user
+     * @return decoded position
+     * @throws IllegalArgumentException if the cursor is malformed, tampered with or issued to another user
+     */
+    public TaskChangesCursor decodeChanges(String token, Long userId) {
+        try {
+            String[] parts = open(token);
+            if (parts.length != 6 || !parts[0].equals(CHANGES_MARKER) || !parts[1].equals(String.valueOf(userId))) {
+                throw invalidCursor();
+            }
+
+            return new TaskChangesCursor(
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]),
+                    LocalDateTime.parse(parts[4]),
+                    Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Unparsable values
+            throw invalidCursor();
+        }
+    }
+
+    private String seal(String payload) {
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * @return payload fields of a token whose signature checks out
+     */
+    private String[] open(String token) {
+        try {
+            int dot = token.indexOf('.');
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                throw invalidCursor();
+            }
+            return new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Missing separator or bad Base64
+            throw invalidCursor();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        return Arrays.copyOf(hmac.hashBytes(payload).asBytes(), SIGNATURE_BYTES);
+    }
+
+    private static IllegalArgumentException invalidCursor() {
+        return new IllegalArgumentException("Invalid pagination cursor");
+    }
+}
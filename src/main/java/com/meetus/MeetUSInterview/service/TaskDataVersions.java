@@ -0,0 +1,56 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Per-user version of the task data: every committed task change moves the user to a new version.
+ * <p>
+ * The version is stored with the user's task statistics and bumped in the transaction of each task write,
+ * so all instances read the same version and only grow it, also across restarts and statistics rebuilds.
+ * Reading it costs one primary key lookup. Read the version before reading the data it describes: a change
+ * committed in between then leaves the data under the old version, never the new one.
+ */
+@Component
+public class TaskDataVersions {
+
+    private final TaskStatsRepository taskStatsRepository;
+
+    public TaskDataVersions(TaskStatsRepository taskStatsRepository) {
+        this.taskStatsRepository = taskStatsRepository;
+    }
+
+    /**
+     * @param userId task owner
+     * @return the user's current version, 0 before their first task write
+     */
+    public long current(Long userId) {
+        return taskStatsRepository.findDataVersion(userId).orElse(0L);
+    }
+
+    /**
+     * Hands the version a task write produced to an action run once the write commits, for in-memory copies
+     * that apply the write and record the version they are then at. Call it from inside the writing transaction,
+     * after the write: the owner's row lock keeps the version from moving until the commit. Outside a transaction
+     * the current version stands in and the action runs at once.
+     * @param userId task owner
+     * @param action receives the version after the write
+     */
+    public void afterCommit(Long userId, LongConsumer action) {
+        long version = current(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.accept(version);
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.hash.Hashing;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Strong ETags for task reads, computed without loading or serializing any task.
+ * <p>
+ * A listing's tag is the user's {@link TaskDataVersions data version} plus a digest of the normalized request,
+ * so it changes with any committed task change, made through any instance, and never matches another listing.
+ * A task's tag is its ID and last modification time, read by a scalar query restricted to the owner.
+ */
+@Component
+public class TaskETags {
+
+    private final TaskDataVersions dataVersions;
+    private final TaskRepository taskRepository;
+    private final Counter notModified;
+    private final Counter full;
+
+    public TaskETags(TaskDataVersions dataVersions, TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.dataVersions = dataVersions;
+        this.taskRepository = taskRepository;
+        this.notModified = Counter.builder("tasks.etag.requests")
+                .tag("result", "not_modified")
+                .description("Task reads by whether the client's copy was current (304) or a body was sent")
+                .register(meterRegistry);
+        this.full = Counter.builder("tasks.etag.requests")
+                .tag("result", "full")
+                .description("Task reads by whether the client's copy was current (304) or a body was sent")
+                .register(meterRegistry);
+        Gauge.builder("tasks.etag.not.modified.ratio", this, TaskETags::getNotModifiedRatio)
+                .description("Share of task reads answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tag of a listing; read it before running the listing
+     * @param userId task owner
+     * @param request listing request
+     * @return quoted ETag
+     * @throws IllegalArgumentException if the request has an invalid status, count mode or field
+     */
+    public String forListing(Long userId, TaskSearchRequest request) {
+        long version = dataVersions.current(userId);
+        String digest = Hashing.murmur3_128()
+                .hashString(TaskSearchKey.of(userId, request).toString(), StandardCharsets.UTF_8)
+                .toString();
+        return "\"" + Long.toHexString(version) + "-" + digest + "\"";
+    }
+
+    /**
+     * Tag of a single task; read it before loading the task
+     * @param taskId task ID
+     * @param userId task owner
+     * @return quoted ETag, empty if the task does not exist, belongs to another user or was never timestamped
+     */
+    public Optional<String> forTask(Long taskId, Long userId) {
+        return taskRepository.findUpdatedAt(taskId, userId)
+                .map(updatedAt -> "\"" + taskId + "-" + toMicros(updatedAt) + "\"");
+    }
+
+    /**
+     * Counts a tagged read
+     * @param wasNotModified whether it was answered with 304
+     */
+    public void record(boolean wasNotModified) {
+        (wasNotModified ? notModified : full).increment();
+    }
+
+    /**
+     * @return 304 responses over all tagged reads since startup
+     */
+    public double getNotModifiedRatio() {
+        double total = notModified.count() + full.count();
+        return total == 0 ? 0 : notModified.count() / total;
+    }
+
+    private static long toMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+}
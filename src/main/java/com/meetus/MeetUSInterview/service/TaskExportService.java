@@ -0,0 +1,149 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.enums.TaskExportFormat;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's tasks, filtered exactly like a listing, straight from a database cursor to an output stream.
+ * Only the current row and the write buffer are held in memory.
+ */
+@Service
+@Slf4j
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,userId,createdAt,updatedAt";
+    /** Oldest first, served by the (user_id, created_at, id) index */
+    private static final Sort EXPORT_SORT = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TaskExportService(
+            TaskRepository taskRepository,
+            TaskSearchIndex taskSearchIndex,
+            ObjectMapper objectMapper,
+            @Value("${app.tasks.export.fetch-size:500}") int fetchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * If the client disconnects, the failed write ends the export and closing the stream releases the cursor,
+     * so the query stops instead of reading the remaining rows.
+     * @param searchRequest filters; paging, sorting and field selection are ignored
+     * @param userId task owner
+     * @param format file format
+     * @param output response body, left open
+     * @return number of exported tasks
+     */
+    @Transactional(readOnly = true)
+    public long export(TaskSearchRequest searchRequest, Long userId, TaskExportFormat format, OutputStream output)
+            throws IOException {
+        log.info("Exporting tasks for user ID: {} as {} with criteria: {}", userId, format, searchRequest);
+
+        long count = 0;
+        TaskFilter filter = taskSearchIndex.resolve(TaskFilter.of(userId, searchRequest));
+        try (Stream<TaskResponse> tasks = taskRepository.streamProjected(
+                filter, EnumSet.allOf(TaskField.class), EXPORT_SORT, fetchSize)) {
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(nonClosing(output), StandardCharsets.UTF_8));
+
+            if (format == TaskExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write("\r\n");
+                while (iterator.hasNext()) {
+                    writeCsvRow(writer, iterator.next());
+                    count++;
+                }
+                writer.flush();
+            } else {
+                try (SequenceWriter rows = objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .withRootValueSeparator("\n")
+                        .writeValues(writer)) {
+                    while (iterator.hasNext()) {
+                        rows.write(iterator.next());
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    writer.write("\n");
+                }
+                writer.flush();
+            }
+        }
+
+        log.info("Exported {} tasks for user ID: {}", count, userId);
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, TaskResponse task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeCsvValue(writer, task.getTitle());
+        writer.write(',');
+        writeCsvValue(writer, task.getDescription());
+        writer.write(',');
+        writeCsvValue(writer, task.getStatus());
+        writer.write(',');
+        writer.write(String.valueOf(task.getUserId()));
+        writer.write(',');
+        writeCsvValue(writer, task.getCreatedAt() == null ? null : task.getCreatedAt().toString());
+        writer.write(',');
+        writeCsvValue(writer, task.getUpdatedAt() == null ? null : task.getUpdatedAt().toString());
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * The container owns the response stream; closing writers must not close it
+     */
+    private static OutputStream nonClosing(OutputStream output) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskLookupResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches many tasks of a user by ID with one query, reporting the IDs that are not the user's instead of failing
+ */
+@Service
+@Slf4j
+public class TaskLookupService {
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final int maxIds;
+
+    public TaskLookupService(
+            TaskRepository taskRepository,
+            TaskMapper taskMapper,
+            @Value("${app.tasks.lookup.max-ids:100}") int maxIds
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * @param ids task IDs; duplicates are fetched once
+     * @param userId task owner
+     * @return found tasks in request order, and the IDs that are missing or belong to another user
+     * @throws IllegalArgumentException if no ID or more than the configured maximum is given
+     */
+    @Transactional(readOnly = true)
+    public TaskLookupResponse getTasks(Collection<Long> ids, Long userId) {
+        Set<Long> requested = ids == null ? Set.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one task ID is required");
+        }
+        if (requested.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " task IDs can be fetched at once");
+        }
+
+        log.info("Fetching {} tasks by ID for user ID: {}", requested.size(), userId);
+        Map<Long, Task> found = taskRepository.findByUserIdAndIdIn(userId, requested).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskResponse> tasks = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : requested) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(taskMapper.toResponse(task));
+            } else {
+                notFound.add(id);
+            }
+        }
+
+        log.info("Found {} of {} requested tasks for user ID: {}", tasks.size(), requested.size(), userId);
+        return TaskLookupResponse.builder()
+                .tasks(tasks)
+                .notFound(notFound)
+                .build();
+    }
+}
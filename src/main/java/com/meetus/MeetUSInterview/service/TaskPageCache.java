@@ -0,0 +1,132 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of serialized task listing responses, keyed by user, the user's {@link TaskDataVersions data version}
+ * and the normalized request.
+ * <p>
+ * Every committed task change moves the user to a new version, so all of their cached pages stop matching at once
+ * and age out under the byte limit. The version is shared by all instances, so a change made through another
+ * instance is seen here too. A listing reads the version before it queries, and the loader only shares queries
+ * that read the same version or a later one ({@link TaskQueryCoalescer}): a change committed meanwhile leaves
+ * its page under the old version, never the new one.
+ */
+@Component
+@Slf4j
+public class TaskPageCache {
+
+    /**
+     * Key, array header and map entry overhead per cached page
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final boolean enabled;
+    private final TaskDataVersions dataVersions;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, byte[]> pages;
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public TaskPageCache(
+            @Value("${app.tasks.page-cache.enabled:true}") boolean enabled,
+            @Value("${app.tasks.page-cache.max-bytes:67108864}") long maxBytes,
+            TaskDataVersions dataVersions,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.dataVersions = dataVersions;
+        this.objectMapper = objectMapper;
+        this.pages = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(TaskPageCache::weight)
+                .removalListener(this::onRemoval)
+                .build();
+        this.hits = Counter.builder("tasks.page.cache")
+                .tag("result", "hit")
+                .description("Task listing page cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tasks.page.cache")
+                .tag("result", "miss")
+                .description("Task listing page cache lookups")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("tasks.page.cache.evictions")
+                .description("Cached task pages dropped to stay under the byte limit")
+                .register(meterRegistry);
+        Gauge.builder("tasks.page.cache.size", pages, Cache::size)
+                .description("Number of task pages currently cached")
+                .register(meterRegistry);
+        Gauge.builder("tasks.page.cache.bytes", cachedBytes, AtomicLong::get)
+                .description("Estimated heap held by cached task pages")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("TaskPageCache initialized (enabled: {}, max bytes: {})", enabled, maxBytes);
+    }
+
+    /**
+     * Returns the cached listing response, or builds, serializes and caches it
+     * @param userId task owner
+     * @param request listing request
+     * @param response builds the response body on a miss
+     * @return response body as JSON bytes, shared with other requests; do not modify
+     */
+    public byte[] get(Long userId, TaskSearchRequest request, Supplier<?> response) {
+        if (!enabled) {
+            return serialize(response.get());
+        }
+
+        Key key = new Key(TaskSearchKey.of(userId, request), dataVersions.current(userId));
+        byte[] cached = pages.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        byte[] page = serialize(response.get());
+        pages.put(key, page);
+        cachedBytes.addAndGet(weight(key, page));
+        return page;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void onRemoval(RemovalNotification<Key, byte[]> notification) {
+        cachedBytes.addAndGet(-weight(notification.getKey(), notification.getValue()));
+        if (notification.wasEvicted()) {
+            evictions.increment();
+        }
+    }
+
+    private static int weight(Key key, byte[] page) {
+        return ENTRY_OVERHEAD_BYTES + key.search().estimatedBytes() + page.length;
+    }
+
+    private record Key(TaskSearchKey search, long version) {
+    }
+}
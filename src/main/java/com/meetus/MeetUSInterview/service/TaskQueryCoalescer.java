@@ -0,0 +1,142 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
+import com.meetus.MeetUSInterview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for task listings: while a listing runs, identical requests of the same user wait for its result
+ * instead of running their own queries. Requests are identical when they normalize to the same
+ * {@link TaskSearchKey} and read the same {@link TaskDataVersions data version}.
+ * <p>
+ * Runs outside any transaction, so waiting requests hold no database connection. A failure reaches every waiter.
+ * A waiter gives up after the wait timeout with a 503 rather than adding another copy of a slow query.
+ * The version is read before the query runs and is shared by all instances, so a request made after a write,
+ * through any instance, reads a newer version and never joins a query that started before it.
+ */
+@Component
+@Slf4j
+public class TaskQueryCoalescer {
+
+    private final boolean enabled;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final TaskDataVersions dataVersions;
+    private final ConcurrentMap<Key, CompletableFuture<TaskPageResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter joined;
+    private final Counter timedOut;
+
+    public TaskQueryCoalescer(
+            @Value("${app.tasks.coalescing.enabled:true}") boolean enabled,
+            @Value("${app.tasks.coalescing.wait-timeout-ms:5000}") long waitTimeoutMillis,
+            @Value("${app.tasks.coalescing.retry-after-seconds:1}") long retryAfterSeconds,
+            TaskDataVersions dataVersions,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.dataVersions = dataVersions;
+        this.executed = Counter.builder("tasks.query.coalescing")
+                .tag("result", "executed")
+                .description("Task listings by whether they ran their own query or shared one already running")
+                .register(meterRegistry);
+        this.joined = Counter.builder("tasks.query.coalescing")
+                .tag("result", "joined")
+                .description("Task listings by whether they ran their own query or shared one already running")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("tasks.query.coalescing.timeouts")
+                .description("Task listings that gave up waiting for a shared query")
+                .register(meterRegistry);
+        Gauge.builder("tasks.query.coalescing.ratio", this, TaskQueryCoalescer::getCoalescingRatio)
+                .description("Share of task listings answered by another request's query")
+                .register(meterRegistry);
+
+        log.info("TaskQueryCoalescer initialized (enabled: {}, wait timeout: {} ms)", enabled, waitTimeoutMillis);
+    }
+
+    /**
+     * Runs the listing, or waits for an identical one already running
+     * @param userId task owner
+     * @param request listing request
+     * @param query runs the listing
+     * @return listing result, possibly shared with other requests
+     */
+    public TaskPageResponse coalesce(Long userId, TaskSearchRequest request, Supplier<TaskPageResponse> query) {
+        if (!enabled) {
+            return query.get();
+        }
+
+        Key key = new Key(TaskSearchKey.of(userId, request), dataVersions.current(userId));
+        CompletableFuture<TaskPageResponse> flight = new CompletableFuture<>();
+        CompletableFuture<TaskPageResponse> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            joined.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            TaskPageResponse response = query.get();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return joined listings over all coalesced listings since startup
+     */
+    public double getCoalescingRatio() {
+        double total = executed.count() + joined.count();
+        return total == 0 ? 0 : joined.count() / total;
+    }
+
+    private TaskPageResponse await(CompletableFuture<TaskPageResponse> flight) {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            log.warn("Gave up after {} ms waiting for an identical task listing", waitTimeoutMillis);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Task listing failed", cause);
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Task listing is busy, please retry later", retryAfterSeconds);
+    }
+
+    private record Key(TaskSearchKey search, long version) {
+    }
+}
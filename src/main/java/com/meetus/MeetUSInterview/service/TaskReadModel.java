@@ -0,0 +1,543 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory copy of each active user's tasks, answering task listings without querying the database.
+ * <p>
+ * A user's tasks are loaded on their first listing and then kept current from the {@link TaskChangedEvent}s
+ * TaskService publishes for every mutation. Rows are ordered by task ID and every column is a primitive array:
+ * IDs, creation and update times as epoch microseconds (the precision of the timestamp columns) and interned
+ * title references, plus one bit set per status. Filters select the same rows as the listing query built from
+ * the same {@link TaskFilter}; sort order is the same too, with ties between equal keys broken by ID. Users are
+ * evicted least recently used first once the estimated heap of all loaded users exceeds the byte budget.
+ * <p>
+ * Each user's copy records their {@link TaskDataVersions data version} it was loaded at and moves on with every
+ * change applied to it. A listing that reads another version loads the user again before answering, so changes
+ * made through other instances, or committed while loading, are never missed.
+ * <p>
+ * Listings with search text, a cursor or the description field are left to the database.
+ */
+@Component
+@Slf4j
+public class TaskReadModel {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    /** Titles repeat across tasks and users, so each distinct title is held once */
+    private static final Interner<String> TITLES = Interners.newWeakInterner();
+    /** Statuses ordered as the database sorts them: by their stored name */
+    private static final List<TaskStatus> STATUS_SORT_ORDER = Stream.of(TaskStatus.values())
+            .sorted(Comparator.comparing(TaskStatus::name))
+            .toList();
+
+    private final TaskRepository taskRepository;
+    private final TaskDataVersions dataVersions;
+    private final boolean enabled;
+    private final Cache<Long, UserTasks> users;
+    private final Counter hits;
+    private final Counter fallbacks;
+    private final Counter evictions;
+
+    public TaskReadModel(
+            TaskRepository taskRepository,
+            TaskDataVersions dataVersions,
+            @Value("${app.tasks.read-model.enabled:false}") boolean enabled,
+            @Value("${app.tasks.read-model.max-bytes:134217728}") long maxBytes,
+            @Value("${app.tasks.read-model.ttl-seconds:3600}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.taskRepository = taskRepository;
+        this.dataVersions = dataVersions;
+        this.enabled = enabled;
+        this.users = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, UserTasks tasks) -> tasks.estimatedBytes())
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .removalListener(this::onRemoval)
+                .build();
+        this.hits = Counter.builder("tasks.read.model.requests")
+                .tag("result", "hit")
+                .description("Task listings answered from the in-memory read model or left to the database")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("tasks.read.model.requests")
+                .tag("result", "fallback")
+                .description("Task listings answered from the in-memory read model or left to the database")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("tasks.read.model.evictions")
+                .description("Users dropped from the read model to stay under the byte budget")
+                .register(meterRegistry);
+        Gauge.builder("tasks.read.model.users", users, Cache::size)
+                .description("Users whose tasks are loaded in the read model")
+                .register(meterRegistry);
+        Gauge.builder("tasks.read.model.bytes", this, TaskReadModel::getEstimatedBytes)
+                .description("Estimated heap held by the read model")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("TaskReadModel initialized (enabled: {}, max bytes: {})", enabled, maxBytes);
+    }
+
+    /**
+     * @param filter listing criteria of one user
+     * @param fields fields to fill in each task
+     * @param sort one sort order on id, title, status, createdAt or updatedAt
+     * @param offset rows to skip
+     * @param limit most rows to return
+     * @return the page and the number of matching tasks, empty if the listing has to go to the database
+     */
+    @Transactional(readOnly = true)
+    public Optional<Result> find(TaskFilter filter, Set<TaskField> fields, Sort sort, long offset, int limit) {
+        if (!enabled || filter.search() != null || filter.cursor() != null || fields.contains(TaskField.DESCRIPTION)) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        UserTasks tasks = load(filter.userId());
+        if (tasks == null) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(tasks.query(filter, fields, sort.iterator().next(), offset, limit));
+    }
+
+    /**
+     * Applies a change to a loaded user once it commits; users that are not loaded read it on their next load
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (users.getIfPresent(event.userId()) == null) {
+            return;
+        }
+        dataVersions.afterCommit(event.userId(), version -> apply(event, version));
+    }
+
+    /**
+     * Drops a user; their next listing loads them again
+     */
+    public void invalidate(Long userId) {
+        users.invalidate(userId);
+    }
+
+    /**
+     * @return estimated heap held by all loaded users
+     */
+    public long getEstimatedBytes() {
+        return users.asMap().values().stream().mapToLong(UserTasks::estimatedBytes).sum();
+    }
+
+    private void apply(TaskChangedEvent event, long version) {
+        UserTasks tasks = users.getIfPresent(event.userId());
+        if (tasks == null) {
+            return;
+        }
+
+        // A creation or update applies the committed row, so replays and out-of-order handling converge
+        Optional<Task> task = event.isDeletion() ? Optional.empty() : taskRepository.findById(event.taskId());
+        Change change = task.map(tasks::upsert).orElseGet(() -> tasks.remove(event.taskId()));
+        tasks.advance(version);
+
+        if (change == Change.REBUILD) {
+            log.debug("Dropping read model of user ID: {} to rebuild it", event.userId());
+            users.asMap().remove(event.userId(), tasks);
+        } else if (change == Change.GREW) {
+            // Weights are taken when an entry is written, so write it again to charge the larger arrays
+            users.asMap().replace(event.userId(), tasks, tasks);
+        }
+    }
+
+    /**
+     * Loads the user, or reuses their loaded tasks if they are at the user's current version. Otherwise a change
+     * was committed that the copy has not applied, through another instance or while it was loading, so the copy
+     * is discarded and loaded again.
+     */
+    private UserTasks load(Long userId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            UserTasks tasks;
+            try {
+                tasks = users.get(userId, () -> build(userId));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to load task read model", e.getCause());
+            }
+
+            if (tasks.isAt(dataVersions.current(userId))) {
+                return tasks;
+            }
+            users.asMap().remove(userId, tasks);
+        }
+
+        log.debug("Tasks of user ID: {} kept changing while loading, listing from the database", userId);
+        return null;
+    }
+
+    private UserTasks build(Long userId) {
+        // Read before the rows, so a change committed meanwhile leaves the copy behind the version, never ahead
+        UserTasks tasks = new UserTasks(dataVersions.current(userId));
+        try (Stream<Object[]> rows = taskRepository.streamColumnsByUserId(userId)) {
+            rows.forEach(row -> tasks.append((Long) row[0], (String) row[1], (TaskStatus) row[2],
+                    (LocalDateTime) row[3], (LocalDateTime) row[4]));
+        }
+        log.debug("Loaded read model of user ID: {} ({} tasks)", userId, tasks.liveCount);
+        return tasks;
+    }
+
+    private void onRemoval(RemovalNotification<Long, UserTasks> notification) {
+        if (notification.wasEvicted()) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * @param tasks requested page
+     * @param total number of tasks matching the filter
+     */
+    public record Result(List<TaskResponse> tasks, long total) {
+    }
+
+    /**
+     * Compares two rows by a sort key, taking row indices so sorting them boxes nothing
+     */
+    @FunctionalInterface
+    private interface RowOrder {
+        int compare(int row, int other);
+    }
+
+    private enum Change {
+        APPLIED,
+        /** Applied, and the columns were reallocated larger */
+        GREW,
+        /** Not applied; the user has to be loaded again */
+        REBUILD
+    }
+
+    /**
+     * One user's tasks. Rows stay in ascending ID order: new IDs are appended, and a deleted row is only cleared
+     * from the live and status bits until deleted rows outnumber live ones and the user is rebuilt.
+     */
+    private static final class UserTasks {
+
+        /** Per row: three long columns and a title reference; titles are shared through the interner */
+        private static final int ROW_BYTES = 3 * Long.BYTES + 4;
+        private static final int OVERHEAD_BYTES = 256;
+        private static final long NULL_TIME = Long.MIN_VALUE;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final BitSet live = new BitSet();
+        private final BitSet[] statuses = new BitSet[TaskStatus.values().length];
+        private long[] ids = new long[16];
+        private long[] createdAt = new long[16];
+        private long[] updatedAt = new long[16];
+        private String[] titles = new String[16];
+        private int rows;
+        private int liveCount;
+        private volatile int capacity = 16;
+        private long dataVersion;
+
+        UserTasks(long dataVersion) {
+            this.dataVersion = dataVersion;
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = new BitSet();
+            }
+        }
+
+        int estimatedBytes() {
+            // Bit sets take one bit per row for each status and for liveness
+            return OVERHEAD_BYTES + capacity * ROW_BYTES + capacity * (statuses.length + 1) / Byte.SIZE;
+        }
+
+        /**
+         * Adds a row during the load, which reads rows in ID order
+         */
+        void append(long id, String title, TaskStatus status, LocalDateTime created, LocalDateTime updated) {
+            if (rows == ids.length) {
+                grow();
+            }
+            int row = rows++;
+            ids[row] = id;
+            set(row, title, status, created, updated);
+            live.set(row);
+            liveCount++;
+        }
+
+        /**
+         * Moves to the version of a change just applied, if it directly follows the current one. A change already
+         * loaded leaves the version as it is; after a gap the copy stays behind and the next listing reloads it.
+         */
+        void advance(long version) {
+            lock.writeLock().lock();
+            try {
+                if (version == dataVersion + 1) {
+                    dataVersion = version;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean isAt(long version) {
+            lock.readLock().lock();
+            try {
+                return dataVersion == version;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Change upsert(Task task) {
+            lock.writeLock().lock();
+            try {
+                int row = Arrays.binarySearch(ids, 0, rows, task.getId());
+                if (row >= 0) {
+                    // IDs are never reused, so a deleted row stays deleted even if an older event is handled late
+                    if (live.get(row)) {
+                        set(row, task.getTitle(), task.getStatus(), task.getCreatedAt(), task.getUpdatedAt());
+                    }
+                    return Change.APPLIED;
+                }
+                if (-row - 1 < rows) {
+                    // A lower ID committed after a higher one; rebuilding is simpler than shifting every column
+                    return Change.REBUILD;
+                }
+
+                int before = ids.length;
+                append(task.getId(), task.getTitle(), task.getStatus(), task.getCreatedAt(), task.getUpdatedAt());
+                return ids.length > before ? Change.GREW : Change.APPLIED;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Change remove(long id) {
+            lock.writeLock().lock();
+            try {
+                int row = Arrays.binarySearch(ids, 0, rows, id);
+                if (row >= 0 && live.get(row)) {
+                    live.clear(row);
+                    for (BitSet status : statuses) {
+                        status.clear(row);
+                    }
+                    titles[row] = null;
+                    liveCount--;
+                }
+                return rows - liveCount > Math.max(liveCount, 64) ? Change.REBUILD : Change.APPLIED;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Result query(TaskFilter filter, Set<TaskField> fields, Sort.Order order, long offset, int limit) {
+            lock.readLock().lock();
+            try {
+                int[] matches = match(filter);
+                int[] sorted = sort(matches, order);
+
+                int from = (int) Math.min(offset, sorted.length);
+                int to = (int) Math.min(from + (long) limit, sorted.length);
+                List<TaskResponse> page = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    page.add(toResponse(sorted[i], fields, filter.userId()));
+                }
+                return new Result(page, matches.length);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @return matching rows in ascending ID order
+         */
+        private int[] match(TaskFilter filter) {
+            BitSet candidates = filter.status() != null ? statuses[filter.status().ordinal()] : live;
+            // Rows hold whole microseconds, so the bounds can be rounded inwards to microseconds without changing
+            // which rows fall between them
+            long from = filter.fromDate() != null ? ceilMicros(filter.fromDate()) : Long.MIN_VALUE;
+            long to = filter.toDate() != null ? floorMicros(filter.toDate()) : Long.MAX_VALUE;
+            long[] wanted = filter.ids() != null
+                    ? filter.ids().stream().mapToLong(Long::longValue).sorted().toArray()
+                    : null;
+
+            int[] matches = new int[candidates.cardinality()];
+            int count = 0;
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                if (createdAt[row] >= from && createdAt[row] <= to
+                        && (wanted == null || Arrays.binarySearch(wanted, ids[row]) >= 0)
+                        && (filter.matches() == null || filter.matches().test(ids[row]))) {
+                    matches[count++] = row;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        }
+
+        /**
+         * Orders rows by the sort key, then by ID, both in the requested direction. Rows come in ID order,
+         * so ID needs no sorting and status is a stable bucket pass.
+         */
+        private int[] sort(int[] matches, Sort.Order order) {
+            int[] sorted = switch (order.getProperty()) {
+                case "id" -> matches;
+                case "status" -> sortByStatus(matches);
+                case "title" -> sortBy(matches, (a, b) -> titles[a].compareTo(titles[b]));
+                case "createdAt" -> sortBy(matches, (a, b) -> Long.compare(createdAt[a], createdAt[b]));
+                case "updatedAt" -> sortBy(matches, (a, b) -> Long.compare(updatedAt[a], updatedAt[b]));
+                default -> throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+            };
+
+            if (order.isDescending()) {
+                // Descending on both key and ID is the exact reverse of ascending on both
+                for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                    int row = sorted[i];
+                    sorted[i] = sorted[j];
+                    sorted[j] = row;
+                }
+            }
+            return sorted;
+        }
+
+        private int[] sortByStatus(int[] matches) {
+            int[] sorted = new int[matches.length];
+            int count = 0;
+            for (TaskStatus status : STATUS_SORT_ORDER) {
+                BitSet bits = statuses[status.ordinal()];
+                for (int row : matches) {
+                    if (bits.get(row)) {
+                        sorted[count++] = row;
+                    }
+                }
+            }
+            return sorted;
+        }
+
+        /**
+         * Bottom-up merge sort of the rows, stable so rows with equal keys keep their ascending ID order. Runs that
+         * are already in order, as creation times mostly are, are passed over without merging.
+         */
+        private static int[] sortBy(int[] matches, RowOrder byKey) {
+            int[] sorted = matches.clone();
+            int[] merged = new int[sorted.length];
+            for (int width = 1; width < sorted.length; width *= 2) {
+                for (int from = 0; from + width < sorted.length; from += 2 * width) {
+                    int middle = from + width;
+                    int to = Math.min(middle + width, sorted.length);
+                    if (byKey.compare(sorted[middle - 1], sorted[middle]) <= 0) {
+                        continue;
+                    }
+
+                    int left = from;
+                    int right = middle;
+                    int next = from;
+                    while (left < middle && right < to) {
+                        // Taking the left row on equal keys keeps the sort stable
+                        merged[next++] = byKey.compare(sorted[right], sorted[left]) < 0
+                                ? sorted[right++]
+                                : sorted[left++];
+                    }
+                    System.arraycopy(sorted, left, merged, next, middle - left);
+                    System.arraycopy(sorted, right, merged, next + middle - left, to - right);
+                    System.arraycopy(merged, from, sorted, from, to - from);
+                }
+            }
+            return sorted;
+        }
+
+        private TaskResponse toResponse(int row, Set<TaskField> fields, Long userId) {
+            TaskResponse response = new TaskResponse();
+            for (TaskField field : fields) {
+                switch (field) {
+                    case ID -> response.setId(ids[row]);
+                    case TITLE -> response.setTitle(titles[row]);
+                    case STATUS -> response.setStatus(statusOf(row).getStringValue());
+                    case USER_ID -> response.setUserId(userId);
+                    case CREATED_AT -> response.setCreatedAt(toTime(createdAt[row]));
+                    case UPDATED_AT -> response.setUpdatedAt(toTime(updatedAt[row]));
+                    case DESCRIPTION -> throw new IllegalArgumentException("Descriptions are not held in memory");
+                }
+            }
+            return response;
+        }
+
+        private TaskStatus statusOf(int row) {
+            for (TaskStatus status : TaskStatus.values()) {
+                if (statuses[status.ordinal()].get(row)) {
+                    return status;
+                }
+            }
+            throw new IllegalStateException("Task row without a status: " + ids[row]);
+        }
+
+        private void set(int row, String title, TaskStatus status, LocalDateTime created, LocalDateTime updated) {
+            titles[row] = TITLES.intern(title);
+            for (BitSet bits : statuses) {
+                bits.clear(row);
+            }
+            statuses[status.ordinal()].set(row);
+            createdAt[row] = toMicros(created);
+            updatedAt[row] = toMicros(updated);
+        }
+
+        private void grow() {
+            int length = ids.length * 2;
+            ids = Arrays.copyOf(ids, length);
+            createdAt = Arrays.copyOf(createdAt, length);
+            updatedAt = Arrays.copyOf(updatedAt, length);
+            titles = Arrays.copyOf(titles, length);
+            capacity = length;
+        }
+
+        /**
+         * Truncated to microseconds like the database column; a missing time sorts first, as NULL does
+         */
+        private static long toMicros(LocalDateTime time) {
+            return time == null ? NULL_TIME : floorMicros(time);
+        }
+
+        private static LocalDateTime toTime(long micros) {
+            return micros == NULL_TIME ? null : LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                    (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        }
+
+        private static long floorMicros(LocalDateTime time) {
+            return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        }
+
+        private static long ceilMicros(LocalDateTime time) {
+            return floorMicros(time) + (time.getNano() % 1_000 == 0 ? 0 : 1);
+        }
+    }
+}
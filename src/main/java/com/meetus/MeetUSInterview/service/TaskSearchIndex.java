@@ -0,0 +1,446 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Per-user inverted index over task titles and descriptions, ranked with BM25.
+ * <p>
+ * A user's index is built from the tasks table on their first search and then kept current from
+ * {@link TaskChangedEvent}s. Every query term must match, as a prefix of some indexed term. Deleted tasks
+ * are only marked in place; once they outnumber the live ones the index is dropped and rebuilt on the next
+ * search.
+ * <p>
+ * Each index records the user's {@link TaskDataVersions data version} it was loaded at and moves on with every
+ * change applied to it. A search that reads another version rebuilds the index first, so changes made through
+ * other instances, or committed while the index was loading, are never missed.
+ */
+@Component
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    /** A title term counts this many times, so title matches outrank description matches */
+    private static final int TITLE_WEIGHT = 2;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final TaskDataVersions dataVersions;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final Cache<Long, UserIndex> indexes;
+
+    public TaskSearchIndex(
+            TaskRepository taskRepository,
+            TaskDataVersions dataVersions,
+            @Value("${app.tasks.search-index.enabled:true}") boolean enabled,
+            @Value("${app.tasks.search-index.max-users:1000}") long maxUsers,
+            @Value("${app.tasks.search-index.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${app.tasks.search-index.max-candidates:1000}") int maxCandidates
+    ) {
+        this.taskRepository = taskRepository;
+        this.dataVersions = dataVersions;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.indexes = CacheBuilder.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * @param query search text
+     * @return true if the index is enabled and the query has at least one term it can look up
+     */
+    public boolean canSearch(String query) {
+        return enabled && query != null && !tokenize(query).isEmpty();
+    }
+
+    /**
+     * @return most matches bound into a query as an ID list; more are tested against each row read instead
+     */
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    /**
+     * Criteria of a listing or export as every task read applies them: search text the index can answer becomes
+     * the IDs of its matches, or a test of task IDs against the index if there are more than max-candidates.
+     * Rows are then read in the requested order and tested one by one, and a common term fills a page after
+     * a few rows.
+     * @param filter criteria with the request's search text
+     * @return the filter with its search text replaced by its matches, or unchanged if the index cannot answer it
+     */
+    @Transactional(readOnly = true)
+    public TaskFilter resolve(TaskFilter filter) {
+        if (!canSearch(filter.search())) {
+            return filter;
+        }
+
+        UserIndex index = load(filter.userId());
+        BitSet matches = index.match(new ArrayList<>(new LinkedHashSet<>(tokenize(filter.search()))));
+        if (matches.cardinality() <= maxCandidates) {
+            return filter.withIds(index.taskIds(matches));
+        }
+        return filter.withMatches(taskId -> index.contains(matches, taskId));
+    }
+
+    /**
+     * @param userId task owner
+     * @param query search text
+     * @return matching tasks, best first (newest first among equal scores)
+     */
+    @Transactional(readOnly = true)
+    public List<Hit> search(Long userId, String query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return load(userId).search(terms);
+    }
+
+    /**
+     * Applies a change once it commits; users without a loaded index are indexed fresh on their next search
+     * instead. Status changes leave the indexed text untouched and only move the version on.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (indexes.getIfPresent(event.userId()) == null) {
+            return;
+        }
+        dataVersions.afterCommit(event.userId(), version -> apply(event, version));
+    }
+
+    /**
+     * Drops a user's index; the next search rebuilds it from the tasks table
+     */
+    public void invalidate(Long userId) {
+        indexes.invalidate(userId);
+    }
+
+    private void apply(TaskChangedEvent event, long version) {
+        UserIndex index = indexes.getIfPresent(event.userId());
+        if (index == null) {
+            return;
+        }
+
+        if (event.isDeletion()) {
+            index.remove(event.taskId());
+        } else if (event.isCreation()) {
+            taskRepository.findById(event.taskId())
+                    .ifPresent(task -> index.put(task.getId(), task.getTitle(), task.getDescription()));
+        }
+        index.advance(version);
+
+        if (index.needsRebuild()) {
+            log.debug("Dropping search index for user ID: {}, deleted tasks outnumber live ones", event.userId());
+            indexes.invalidate(event.userId());
+        }
+    }
+
+    /**
+     * Lower-cases the text and splits it on anything that is not a letter or digit
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Loads the user's index, or reuses the loaded one if it is at the user's current version. Otherwise a change
+     * was committed that the index has not applied, through another instance or while it was loading, so the
+     * index is discarded and built again.
+     */
+    private UserIndex load(Long userId) {
+        UserIndex index = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            try {
+                index = indexes.get(userId, () -> build(userId));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to build task search index", e.getCause());
+            }
+
+            if (index.isAt(dataVersions.current(userId))) {
+                return index;
+            }
+            indexes.asMap().remove(userId, index);
+        }
+
+        // Answers this search from the last build, which read every change committed before it started
+        log.debug("Tasks of user ID: {} kept changing while indexing, searching an uncached index", userId);
+        return index;
+    }
+
+    private UserIndex build(Long userId) {
+        // Read before the rows, so a change committed meanwhile leaves the index behind the version, never ahead
+        UserIndex index = new UserIndex(dataVersions.current(userId));
+        try (Stream<Object[]> rows = taskRepository.streamSearchableByUserId(userId)) {
+            rows.forEach(row -> index.put((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        log.debug("Built search index for user ID: {} ({} tasks)", userId, index.liveCount);
+        return index;
+    }
+
+    public record Hit(Long taskId, double score) {
+    }
+
+    /**
+     * Documents get dense ordinals in insertion order, so every postings list is sorted by ordinal
+     * and stored as two primitive arrays.
+     */
+    private static final class UserIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Postings> terms = new TreeMap<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] taskIds = new long[16];
+        private int[] lengths = new int[16];
+        private int docCount;
+        private int liveCount;
+        private long totalLength;
+        private long dataVersion;
+
+        UserIndex(long dataVersion) {
+            this.dataVersion = dataVersion;
+        }
+
+        /**
+         * Indexes a task, replacing any previous version, so replaying an event is harmless
+         */
+        void put(long taskId, String title, String description) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+
+                int ordinal = docCount++;
+                if (ordinal == taskIds.length) {
+                    taskIds = Arrays.copyOf(taskIds, ordinal * 2);
+                    lengths = Arrays.copyOf(lengths, ordinal * 2);
+                }
+                taskIds[ordinal] = taskId;
+                lengths[ordinal] = length;
+                ordinals.put(taskId, ordinal);
+                frequencies.forEach((term, frequency) ->
+                        terms.computeIfAbsent(term, t -> new Postings()).add(ordinal, frequency));
+
+                liveCount++;
+                totalLength += length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long taskId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Moves to the version of a change just applied, if it directly follows the current one. A change already
+         * loaded leaves the version as it is; after a gap the index stays behind and the next search rebuilds it.
+         */
+        void advance(long version) {
+            lock.writeLock().lock();
+            try {
+                if (version == dataVersion + 1) {
+                    dataVersion = version;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean isAt(long version) {
+            lock.readLock().lock();
+            try {
+                return dataVersion == version;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean needsRebuild() {
+            lock.readLock().lock();
+            try {
+                return docCount - liveCount > Math.max(liveCount, 64);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @return ordinals of the live documents matching every query term, as a prefix of some indexed term
+         */
+        BitSet match(List<String> queryTerms) {
+            lock.readLock().lock();
+            try {
+                BitSet matches = null;
+                for (String term : queryTerms) {
+                    BitSet termMatches = new BitSet(docCount);
+                    for (Postings postings : terms.subMap(term, term + Character.MAX_VALUE).values()) {
+                        for (int i = 0; i < postings.size; i++) {
+                            termMatches.set(postings.ordinals[i]);
+                        }
+                    }
+                    if (matches == null) {
+                        matches = termMatches;
+                    } else {
+                        matches.and(termMatches);
+                    }
+                }
+                matches.andNot(deleted);
+                return matches;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Long> taskIds(BitSet ordinals) {
+            lock.readLock().lock();
+            try {
+                List<Long> ids = new ArrayList<>(ordinals.cardinality());
+                for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                    ids.add(taskIds[ordinal]);
+                }
+                return ids;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean contains(BitSet ordinals, long taskId) {
+            lock.readLock().lock();
+            try {
+                Integer ordinal = this.ordinals.get(taskId);
+                return ordinal != null && ordinals.get(ordinal);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Hit> search(List<String> queryTerms) {
+            lock.readLock().lock();
+            try {
+                if (liveCount == 0) {
+                    return List.of();
+                }
+
+                // Rarest terms first, so the candidate set shrinks as early as possible
+                List<SortedMap<String, Postings>> expansions = queryTerms.stream()
+                        .map(term -> terms.subMap(term, term + Character.MAX_VALUE))
+                        .sorted(Comparator.comparingLong(UserIndex::postingsSize))
+                        .toList();
+
+                double averageLength = (double) totalLength / liveCount;
+                Map<Integer, Double> scores = null;
+                for (SortedMap<String, Postings> expansion : expansions) {
+                    Map<Integer, Double> termScores = new HashMap<>();
+                    for (Postings postings : expansion.values()) {
+                        score(postings, averageLength, scores, termScores);
+                    }
+                    if (scores != null) {
+                        for (Map.Entry<Integer, Double> entry : termScores.entrySet()) {
+                            entry.setValue(entry.getValue() + scores.get(entry.getKey()));
+                        }
+                    }
+                    scores = termScores;
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+
+                List<Hit> hits = new ArrayList<>(scores.size());
+                scores.forEach((ordinal, score) -> hits.add(new Hit(taskIds[ordinal], score)));
+                hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                        .thenComparing(Hit::taskId, Comparator.reverseOrder()));
+                return hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Adds one term's BM25 contribution for each live document, restricted to candidates when given
+         */
+        private void score(Postings postings, double averageLength, Map<Integer, Double> candidates,
+                           Map<Integer, Double> into) {
+            // Deleted documents still sit in the postings until the next rebuild, so cap the document frequency
+            int documentFrequency = Math.min(postings.size, liveCount);
+            double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            for (int i = 0; i < postings.size; i++) {
+                int ordinal = postings.ordinals[i];
+                if (deleted.get(ordinal) || (candidates != null && !candidates.containsKey(ordinal))) {
+                    continue;
+                }
+                double frequency = postings.frequencies[i];
+                double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                into.merge(ordinal, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            }
+        }
+
+        private void removeLocked(long taskId) {
+            Integer ordinal = ordinals.remove(taskId);
+            if (ordinal == null) {
+                return;
+            }
+            deleted.set(ordinal);
+            liveCount--;
+            totalLength -= lengths[ordinal];
+        }
+
+        private static long postingsSize(SortedMap<String, Postings> expansion) {
+            return expansion.values().stream().mapToLong(postings -> postings.size).sum();
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.enums.CountMode;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A user's listing request with defaults applied and spelling variants folded, so requests that produce the same
+ * result are equal
+ */
+record TaskSearchKey(Long userId, TaskStatus status, String search, LocalDateTime fromDate, LocalDateTime toDate,
+                     int page, int size, String sortBy, String sortDirection, CountMode count,
+                     boolean cursorPagination, String cursor, Set<TaskField> fields) {
+
+    static TaskSearchKey of(Long userId, TaskSearchRequest request) {
+        TaskStatus status = request.getStatus() != null && !request.getStatus().isBlank()
+                ? TaskStatus.fromString(request.getStatus())
+                : null;
+        String search = request.getSearch() != null && !request.getSearch().isBlank() ? request.getSearch() : null;
+        String cursor = request.getCursor() != null && !request.getCursor().isBlank() ? request.getCursor() : null;
+        return new TaskSearchKey(userId, status, search, request.getFromDate(), request.getToDate(),
+                request.getPageOrDefault(), request.getSizeOrDefault(), request.getSortByOrDefault(),
+                request.getSortDirectionOrDefault().toUpperCase(Locale.ROOT), CountMode.fromString(request.getCount()),
+                request.isCursorPagination(), cursor, TaskField.parse(request.getFields()));
+    }
+
+    /**
+     * @return rough heap footprint, for byte-weighted caches
+     */
+    int estimatedBytes() {
+        return 160 + (search == null ? 0 : 2 * search.length()) + (cursor == null ? 0 : 2 * cursor.length());
+    }
+}
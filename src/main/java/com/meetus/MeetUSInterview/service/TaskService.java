@@ -5,21 +5,39 @@ import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
 import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
 import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import com.meetus.MeetUSInterview.enums.CountMode;
+import com.meetus.MeetUSInterview.enums.TaskField;
 import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
 import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskCursor;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
 import com.meetus.MeetUSInterview.repository.TaskRepository;
-import com.meetus.MeetUSInterview.repository.TaskSpecifications;
+import com.meetus.MeetUSInterview.repository.TaskTombstoneRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -28,12 +46,26 @@ import java.util.List;
 @Transactional
 public class TaskService {
 
+    private static final Set<String> SORT_FIELDS = Set.of("id", "title", "status", "createdAt", "updatedAt");
+    /** Sort keys backed by a (user_id, key, id) index, so seeking to a cursor is a single index range scan */
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("id", "createdAt", "updatedAt");
+    /** Ranks search matches by BM25 score from {@link TaskSearchIndex} instead of a column */
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final TaskCursorCodec taskCursorCodec;
+    private final TaskStatsService taskStatsService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskReadModel taskReadModel;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public TaskResponse createTask(TaskCreateRequest request, Long userId) {
         log.info("Creating new task for user ID: {}", userId);
+        lockOwner(userId);
 
         Task task = taskMapper.toEntity(request);
         task.setUserId(userId);
@@ -41,6 +73,7 @@ public class TaskService {
         
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully with ID: {} for user ID: {}", savedTask.getId(), userId);
+        eventPublisher.publishEvent(TaskChangedEvent.created(userId, savedTask.getId(), savedTask.getStatus(), savedTask.getCreatedAt()));
 
         return taskMapper.toResponse(savedTask);
     }
@@ -50,10 +83,37 @@ public class TaskService {
     public TaskPageResponse getAllTasksForUser(TaskSearchRequest searchRequest, Long userId) {
         log.info("Fetching tasks for user ID: {} with criteria: {}", userId, searchRequest);
 
-        Specification<Task> specification = TaskSpecifications.build(userId, searchRequest);
+        if (RELEVANCE_SORT.equals(searchRequest.getSortBy())) {
+            return getTasksByRelevance(searchRequest, userId);
+        }
+
+        if (searchRequest.isCursorPagination()) {
+            return getTasksAfterCursor(searchRequest, userId);
+        }
+
+        TaskFilter filter = filter(searchRequest, userId);
         Pageable pageable = createPageable(searchRequest);
+        Set<TaskField> fields = TaskField.parse(searchRequest.getFields());
+
+        CountMode countMode = CountMode.fromString(searchRequest.getCount());
+        // Estimated totals come from the task statistics by definition, so only exact and no totals are answered here
+        if (countMode != CountMode.ESTIMATED) {
+            Optional<TaskReadModel.Result> inMemory = taskReadModel.find(filter, fields, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize());
+            if (inMemory.isPresent()) {
+                return fromReadModel(inMemory.get(), pageable, countMode, userId);
+            }
+        }
+
+        if (countMode != CountMode.EXACT) {
+            return getTaskSlice(filter, pageable, fields, countMode, searchRequest, userId);
+        }
 
-        Page<Task> taskPage = taskRepository.findAll(specification, pageable);
+        List<TaskResponse> tasks = taskRepository.findProjected(filter, fields, pageable.getSort(),
+            pageable.getOffset(), Limit.of(pageable.getPageSize()));
+        // Skips the count query when this page already shows where the results end
+        Page<TaskResponse> taskPage = PageableExecutionUtils.getPage(tasks, pageable,
+            () -> taskRepository.countMatching(filter));
 
         log.info("Found {} tasks out of {} total for user ID: {}", 
             taskPage.getNumberOfElements(), 
@@ -87,6 +147,7 @@ public class TaskService {
 
     public TaskResponse updateTask(Long taskId, Long userId) {
         log.info("Updating task with ID: {} for user ID: {}", taskId, userId);
+        lockOwner(userId);
 
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
@@ -99,6 +160,7 @@ public class TaskService {
             throw new IllegalStateException("Task status is already done");
         }
 
+        TaskStatus previousStatus = task.getStatus();
         if (task.getStatus() == TaskStatus.OPEN) {
             task.setStatus(TaskStatus.DONE);
             log.info("Updating task status from OPEN to DONE");
@@ -106,12 +168,16 @@ public class TaskService {
 
         Task updatedTask = taskRepository.save(task);
         log.info("Task updated successfully with ID: {}", updatedTask.getId());
+        eventPublisher.publishEvent(
+            TaskChangedEvent.statusChanged(userId, updatedTask.getId(), previousStatus, updatedTask.getStatus(),
+                updatedTask.getCreatedAt()));
 
         return taskMapper.toResponse(updatedTask);
     }
 
     public void deleteTask(Long taskId, Long userId) {
         log.info("Deleting task with ID: {} for user ID: {}", taskId, userId);
+        lockOwner(userId);
 
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
@@ -121,7 +187,193 @@ public class TaskService {
         }
 
         taskRepository.delete(task);
+        // Same transaction as the delete, so delta sync clients never miss it
+        taskTombstoneRepository.save(TaskTombstone.builder().taskId(taskId).userId(userId).build());
         log.info("Task deleted successfully with ID: {}", taskId);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(userId, taskId, task.getStatus(), task.getCreatedAt()));
+    }
+
+    /**
+     * Serializes a user's task writes on their user row. Taken before the write itself: the write's foreign key
+     * check also locks that row, and two writes both holding it while waiting to lock it would deadlock.
+     */
+    private void lockOwner(Long userId) {
+        userRepository.lockById(userId);
+    }
+
+    /**
+     * Offset page without a count query: the slice fetches one extra row to tell whether a next page exists.
+     * In estimated mode the totals come from {@link TaskStatsService}, narrowed by the status filter only.
+     */
+    private TaskPageResponse getTaskSlice(TaskFilter filter, Pageable pageable, Set<TaskField> fields,
+                                          CountMode countMode, TaskSearchRequest searchRequest, Long userId) {
+        List<TaskResponse> tasks = taskRepository.findProjected(filter, fields, pageable.getSort(),
+            pageable.getOffset(), Limit.of(pageable.getPageSize() + 1));
+        boolean hasNext = tasks.size() > pageable.getPageSize();
+        List<TaskResponse> content = hasNext ? tasks.subList(0, pageable.getPageSize()) : tasks;
+
+        TaskPageResponse.TaskPageResponseBuilder response = TaskPageResponse.builder()
+            .tasks(content)
+            .currentPage(pageable.getPageNumber())
+            .size(pageable.getPageSize())
+            .first(pageable.getPageNumber() == 0)
+            .last(!hasNext);
+
+        if (countMode == CountMode.ESTIMATED) {
+            TaskStatus status = searchRequest.getStatus() != null && !searchRequest.getStatus().isBlank()
+                ? TaskStatus.fromString(searchRequest.getStatus())
+                : null;
+            long estimate = taskStatsService.countTasks(userId, status);
+            // Never report fewer rows than this page proves exist
+            long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            long total = Math.max(estimate, seen);
+
+            response.totalElements(total)
+                .totalPages((int) ((total + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                .totalEstimated(true);
+        }
+
+        log.info("Found {} tasks for user ID: {} (count mode: {})", content.size(), userId, countMode);
+        return response.build();
+    }
+
+    /**
+     * Page answered by {@link TaskReadModel}, shaped as the query path shapes it for the count mode
+     */
+    private TaskPageResponse fromReadModel(TaskReadModel.Result result, Pageable pageable, CountMode countMode,
+                                           Long userId) {
+        log.info("Found {} tasks out of {} total in the read model for user ID: {}",
+            result.tasks().size(), result.total(), userId);
+
+        if (countMode == CountMode.EXACT) {
+            return buildTaskPageResponse(new PageImpl<>(result.tasks(), pageable, result.total()));
+        }
+        return TaskPageResponse.builder()
+            .tasks(result.tasks())
+            .currentPage(pageable.getPageNumber())
+            .size(pageable.getPageSize())
+            .first(pageable.getPageNumber() == 0)
+            .last(pageable.getOffset() + result.tasks().size() >= result.total())
+            .build();
+    }
+
+    /**
+     * Keyset pagination: seeks past the cursor instead of skipping rows, so every page costs the same
+     * and rows inserted meanwhile do not shift later pages. Fetches one extra row to detect the last page.
+     */
+    private TaskPageResponse getTasksAfterCursor(TaskSearchRequest searchRequest, Long userId) {
+        int size = searchRequest.getSizeOrDefault();
+        Sort sort = createSort(searchRequest);
+        Sort.Order order = sort.iterator().next();
+
+        if (!CURSOR_SORT_FIELDS.contains(order.getProperty())) {
+            throw new IllegalArgumentException("Cursor pagination supports sorting by " + CURSOR_SORT_FIELDS);
+        }
+
+        TaskFilter filter = filter(searchRequest, userId);
+        boolean first = searchRequest.getCursor() == null || searchRequest.getCursor().isBlank();
+        if (!first) {
+            TaskCursor cursor = taskCursorCodec.decode(searchRequest.getCursor(), userId);
+            if (!cursor.sortBy().equals(order.getProperty()) || cursor.direction() != order.getDirection()) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+            filter = filter.withCursor(cursor);
+        }
+
+        Sort keysetSort = thenById(sort);
+
+        // The next cursor is built from the last row's sort key, so it is always selected
+        Set<TaskField> fields = EnumSet.copyOf(TaskField.parse(searchRequest.getFields()));
+        fields.add(TaskField.fromString(order.getProperty()));
+
+        List<TaskResponse> tasks = taskRepository.findProjected(filter, fields, keysetSort, 0, Limit.of(size + 1));
+
+        boolean last = tasks.size() <= size;
+        List<TaskResponse> page = last ? tasks : tasks.subList(0, size);
+        String nextCursor = last ? null : taskCursorCodec.encode(cursorAfter(page.get(page.size() - 1), order), userId);
+
+        log.info("Found {} tasks after cursor for user ID: {}", page.size(), userId);
+
+        return TaskPageResponse.builder()
+            .tasks(page)
+            .size(size)
+            .first(first)
+            .last(last)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * Search matches ranked by relevance. Without status or date filters only the requested page is loaded;
+     * with them, every match is loaded through the filters and the page is cut from the ranked result. Matches
+     * past max-candidates are tested against the rows read rather than bound into the query.
+     */
+    private TaskPageResponse getTasksByRelevance(TaskSearchRequest searchRequest, Long userId) {
+        if (searchRequest.isCursorPagination()) {
+            throw new IllegalArgumentException("Cursor pagination does not support sorting by relevance");
+        }
+        if (!taskSearchIndex.canSearch(searchRequest.getSearch())) {
+            throw new IllegalArgumentException("Sorting by relevance requires a search term");
+        }
+
+        int page = searchRequest.getPageOrDefault();
+        int size = searchRequest.getSizeOrDefault();
+        long offset = (long) page * size;
+        List<TaskSearchIndex.Hit> hits = taskSearchIndex.search(userId, searchRequest.getSearch());
+
+        boolean filtered = (searchRequest.getStatus() != null && !searchRequest.getStatus().isBlank())
+            || searchRequest.getFromDate() != null
+            || searchRequest.getToDate() != null;
+        List<TaskSearchIndex.Hit> candidates = filtered ? hits : pageOf(hits, offset, size);
+        List<Long> candidateIds = candidates.stream().map(TaskSearchIndex.Hit::taskId).toList();
+        TaskFilter filter = candidateIds.size() <= taskSearchIndex.getMaxCandidates()
+            ? TaskFilter.of(userId, searchRequest).withIds(candidateIds)
+            : TaskFilter.of(userId, searchRequest).withMatches(Set.copyOf(candidateIds)::contains);
+
+        Map<Long, TaskResponse> tasksById = taskRepository.findProjected(filter,
+                TaskField.parse(searchRequest.getFields()), Sort.unsorted(), 0, Limit.unlimited())
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        List<TaskResponse> ranked = candidates.stream()
+            .map(hit -> tasksById.get(hit.taskId()))
+            .filter(Objects::nonNull)
+            .toList();
+
+        long total = filtered ? ranked.size() : hits.size();
+        List<TaskResponse> tasks = filtered ? pageOf(ranked, offset, size) : ranked;
+
+        log.info("Found {} tasks out of {} matches by relevance for user ID: {}", tasks.size(), total, userId);
+
+        return TaskPageResponse.builder()
+            .tasks(tasks)
+            .currentPage(page)
+            .totalPages((int) ((total + size - 1) / size))
+            .totalElements(total)
+            .size(size)
+            .first(page == 0)
+            .last(offset + size >= total)
+            .build();
+    }
+
+    /**
+     * Criteria for a request, with search text the index can answer replaced by the IDs of its matches
+     */
+    private TaskFilter filter(TaskSearchRequest searchRequest, Long userId) {
+        return taskSearchIndex.resolve(TaskFilter.of(userId, searchRequest));
+    }
+
+    private static <T> List<T> pageOf(List<T> items, long offset, int size) {
+        int from = (int) Math.min(offset, items.size());
+        return items.subList(from, (int) Math.min(from + (long) size, items.size()));
+    }
+
+    private TaskCursor cursorAfter(TaskResponse task, Sort.Order order) {
+        LocalDateTime value = switch (order.getProperty()) {
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            default -> null;
+        };
+        return new TaskCursor(order.getProperty(), order.getDirection(), value, task.getId());
     }
 
     private Pageable createPageable(TaskSearchRequest searchRequest) {
@@ -130,7 +382,16 @@ public class TaskService {
         
         Sort sort = createSort(searchRequest);
         
-        return PageRequest.of(page, size, sort);
+        return PageRequest.of(page, size, thenById(sort));
+    }
+
+    /**
+     * ID breaks ties between equal sort keys, making the order total: rows with equal keys then split across
+     * pages the same way on every query, and the same way as in {@link TaskReadModel}
+     */
+    private static Sort thenById(Sort sort) {
+        Sort.Order order = sort.iterator().next();
+        return "id".equals(order.getProperty()) ? sort : sort.and(Sort.by(order.getDirection(), "id"));
     }
 
     
@@ -138,20 +399,19 @@ public class TaskService {
         String sortBy = searchRequest.getSortByOrDefault();
         String sortDirection = searchRequest.getSortDirectionOrDefault();
 
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+
         Sort.Direction direction =
                 "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
 
         return Sort.by(direction, sortBy);
     }
 
-    private TaskPageResponse buildTaskPageResponse(Page<Task> taskPage) {
-        List<TaskResponse> taskResponses = taskPage.getContent()
-            .stream()
-            .map(taskMapper::toResponse)
-            .toList();
-        
+    private TaskPageResponse buildTaskPageResponse(Page<TaskResponse> taskPage) {
         return TaskPageResponse.builder()
-            .tasks(taskResponses)
+            .tasks(taskPage.getContent())
             .currentPage(taskPage.getNumber())
             .totalPages(taskPage.getTotalPages())
             .totalElements(taskPage.getTotalElements())
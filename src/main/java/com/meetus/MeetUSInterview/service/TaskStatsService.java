@@ -0,0 +1,158 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskStatsResponse;
+import com.meetus.MeetUSInterview.entity.TaskDailyStats;
+import com.meetus.MeetUSInterview.entity.TaskStats;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskDailyStatsRepository;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user task statistics kept as aggregates, so reading them never scans {@code tasks}.
+ * <p>
+ * Aggregates are updated inside the transaction of each task write, and TaskService locks the owner's user row
+ * before writing: concurrent writes for the same user queue on that lock instead of overwriting each other's
+ * counts, and a rolled-back write rolls back its aggregate update with it. The same row carries the user's
+ * {@link TaskDataVersions data version}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsService {
+
+    static final int DEFAULT_RANGE_DAYS = 30;
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskDailyStatsRepository taskDailyStatsRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Applies a task write to the aggregates; the writer already holds the lock on the owner's user row
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long userId = event.userId();
+        TaskStats stats = taskStatsRepository.findById(userId)
+            .orElseGet(() -> TaskStats.builder().userId(userId).build());
+        adjust(stats, event.previousStatus(), -1);
+        adjust(stats, event.newStatus(), 1);
+        stats.setDataVersion(stats.getDataVersion() + 1);
+        taskStatsRepository.save(stats);
+
+        if (event.isCreation()) {
+            adjustDay(userId, event.createdAt().toLocalDate(), 1);
+        } else if (event.isDeletion()) {
+            adjustDay(userId, event.createdAt().toLocalDate(), -1);
+        }
+    }
+
+    /**
+     * @param userId task owner
+     * @param from first day of the histogram, defaults to 29 days before {@code to}
+     * @param to last day of the histogram, defaults to today
+     * @return counts by status and tasks created per day
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStats(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Stats range start must not be after its end");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Stats range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        TaskStats stats = taskStatsRepository.findById(userId)
+            .orElseGet(() -> TaskStats.builder().userId(userId).build());
+        Map<LocalDate, Long> created = taskDailyStatsRepository.findByUserIdAndDayBetweenOrderByDay(userId, start, end)
+            .stream()
+            .collect(Collectors.toMap(TaskDailyStats::getDay, TaskDailyStats::getCreatedCount));
+
+        List<TaskStatsResponse.DailyCount> createdPerDay = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            createdPerDay.add(new TaskStatsResponse.DailyCount(day, created.getOrDefault(day, 0L)));
+        }
+
+        return TaskStatsResponse.builder()
+            .openTasks(stats.getOpenCount())
+            .doneTasks(stats.getDoneCount())
+            .totalTasks(stats.getOpenCount() + stats.getDoneCount())
+            .from(start)
+            .to(end)
+            .createdPerDay(createdPerDay)
+            .build();
+    }
+
+    /**
+     * Task count from the aggregates, for page totals that may skip the count query
+     * @param userId task owner
+     * @param status status to count, or null for all tasks
+     * @return the user's tasks with the status
+     */
+    @Transactional(readOnly = true)
+    public long countTasks(Long userId, TaskStatus status) {
+        TaskStats stats = taskStatsRepository.findById(userId)
+            .orElseGet(() -> TaskStats.builder().userId(userId).build());
+        if (status == null) {
+            return stats.getOpenCount() + stats.getDoneCount();
+        }
+        return status == TaskStatus.OPEN ? stats.getOpenCount() : stats.getDoneCount();
+    }
+
+    /**
+     * Recomputes a user's aggregates from {@code tasks}. The data version moves on rather than restarting,
+     * so versions handed out before the rebuild are never reused.
+     * @param userId task owner
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        userRepository.lockById(userId);
+        long dataVersion = taskStatsRepository.findDataVersion(userId).orElse(0L) + 1;
+
+        taskStatsRepository.deleteByUserId(userId);
+        taskDailyStatsRepository.deleteByUserId(userId);
+        taskStatsRepository.recompute(userId, dataVersion);
+        taskDailyStatsRepository.recompute(userId);
+
+        log.info("Rebuilt task stats for user ID: {}", userId);
+    }
+
+    private void adjust(TaskStats stats, TaskStatus status, int delta) {
+        if (status == TaskStatus.OPEN) {
+            stats.setOpenCount(stats.getOpenCount() + delta);
+        } else if (status == TaskStatus.DONE) {
+            stats.setDoneCount(stats.getDoneCount() + delta);
+        }
+    }
+
+    private void adjustDay(Long userId, LocalDate day, int delta) {
+        TaskDailyStats daily = taskDailyStatsRepository.findById(new TaskDailyStats.Key(userId, day))
+            .orElseGet(() -> TaskDailyStats.builder().userId(userId).day(day).build());
+        daily.setCreatedCount(daily.getCreatedCount() + delta);
+
+        if (daily.getCreatedCount() > 0) {
+            taskDailyStatsRepository.save(daily);
+        } else {
+            taskDailyStatsRepository.delete(daily);
+        }
+    }
+}
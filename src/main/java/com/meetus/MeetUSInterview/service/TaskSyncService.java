@@ -0,0 +1,157 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskChangesResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskChangesCursor;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delta sync: the tasks a client has to upsert and the IDs it has to drop since its last sync.
+ * <p>
+ * Changed tasks are read in (updatedAt, id) order and deletions from the tombstone table in (deletedAt, taskId)
+ * order, each stream with its own position in the cursor. Timestamps are taken before the writing transaction
+ * commits, so a stream that is caught up only advances to the settle boundary, now minus the settle window:
+ * later changes are sent again on the next call, and a change whose transaction commits late is not skipped.
+ * Delivery is therefore at-least-once and clients apply changes by task ID.
+ */
+@Service
+@Slf4j
+public class TaskSyncService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final TaskCursorCodec taskCursorCodec;
+    private final long settleSeconds;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final long retentionDays;
+
+    public TaskSyncService(
+            TaskRepository taskRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            TaskMapper taskMapper,
+            TaskCursorCodec taskCursorCodec,
+            @Value("${app.tasks.changes.settle-seconds:5}") long settleSeconds,
+            @Value("${app.tasks.changes.default-limit:100}") int defaultLimit,
+            @Value("${app.tasks.changes.max-limit:500}") int maxLimit,
+            @Value("${app.tasks.tombstones.retention-days:30}") long retentionDays
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskMapper = taskMapper;
+        this.taskCursorCodec = taskCursorCodec;
+        this.settleSeconds = settleSeconds;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * @param since cursor from the previous call, null for a full sync
+     * @param limit maximum tasks and maximum deletions returned; defaulted when missing, capped at the maximum
+     * @param userId task owner
+     * @return changes after the cursor, or only the resync flag if tombstones the client needs were purged
+     * @throws IllegalArgumentException if the cursor is malformed, tampered with or issued to another user
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(String since, Integer limit, Long userId) {
+        int size = (limit != null && limit > 0) ? Math.min(limit, maxLimit) : defaultLimit;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settled = now.minusSeconds(settleSeconds);
+
+        // A full sync loads every live task, so deletions before it are of no interest
+        TaskChangesCursor cursor = since != null && !since.isBlank()
+                ? taskCursorCodec.decodeChanges(since, userId)
+                : new TaskChangesCursor(BEGINNING, 0L, settled, 0L);
+
+        if (cursor.tombstonesAt().isBefore(now.minusDays(retentionDays))) {
+            log.info("Delta sync cursor of user ID: {} is past the tombstone retention, resync required", userId);
+            return TaskChangesResponse.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        List<Task> tasks = taskRepository.findChangedAfter(userId, cursor.tasksAt(), cursor.taskId(),
+                Limit.of(size + 1));
+        List<TaskTombstone> tombstones = taskTombstoneRepository.findAfter(userId, cursor.tombstonesAt(),
+                cursor.tombstoneTaskId(), Limit.of(size + 1));
+        Position boundary = new Position(settled, 0L);
+        Position lastTask = tasks.size() > size
+                ? new Position(tasks.get(size - 1).getUpdatedAt(), tasks.get(size - 1).getId())
+                : null;
+        Position lastTombstone = tombstones.size() > size
+                ? new Position(tombstones.get(size - 1).getDeletedAt(), tombstones.get(size - 1).getTaskId())
+                : null;
+        // A full page reaching past the settle boundary has sent every settled row, so that stream is caught up
+        boolean moreTasks = lastTask != null && lastTask.compareTo(boundary) <= 0;
+        boolean moreTombstones = lastTombstone != null && lastTombstone.compareTo(boundary) <= 0;
+        tasks = tasks.size() > size ? tasks.subList(0, size) : tasks;
+        tombstones = tombstones.size() > size ? tombstones.subList(0, size) : tombstones;
+
+        Position nextTasks = advance(new Position(cursor.tasksAt(), cursor.taskId()),
+                moreTasks ? lastTask : null, boundary);
+        Position nextTombstones = advance(new Position(cursor.tombstonesAt(), cursor.tombstoneTaskId()),
+                moreTombstones ? lastTombstone : null, boundary);
+
+        List<TaskResponse> changed = tasks.stream().map(taskMapper::toResponse).toList();
+        List<Long> deleted = tombstones.stream().map(TaskTombstone::getTaskId).toList();
+        log.info("Delta sync for user ID: {} returned {} changed and {} deleted tasks", userId, changed.size(),
+                deleted.size());
+
+        return TaskChangesResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextCursor(taskCursorCodec.encodeChanges(new TaskChangesCursor(nextTasks.at(), nextTasks.id(),
+                        nextTombstones.at(), nextTombstones.id()), userId))
+                .hasMore(moreTasks || moreTombstones)
+                .build();
+    }
+
+    /**
+     * Drops tombstones past the retention; cursors older than that are answered with a resync
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.tombstones.cleanup-interval-ms:3600000}")
+    public void deleteExpiredTombstones() {
+        int deleted = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        log.debug("Deleted {} expired task tombstones", deleted);
+    }
+
+    /**
+     * A stream with more settled rows waiting moves to the last row sent, so the client always makes progress;
+     * a caught-up stream moves to the settle boundary, never backwards. Neither moves past the boundary, so rows
+     * sent from beyond it are sent again once they have settled.
+     */
+    private static Position advance(Position current, Position lastSent, Position boundary) {
+        if (lastSent != null) {
+            return lastSent;
+        }
+        return boundary.compareTo(current) > 0 ? boundary : current;
+    }
+
+    private record Position(LocalDateTime at, Long id) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int byTime = at.compareTo(other.at);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+}
@@ -7,20 +7,31 @@ import com.meetus.MeetUSInterview.dto.response.auth.UserResponse;
 import com.meetus.MeetUSInterview.entity.User;
 import com.meetus.MeetUSInterview.mapper.UserMapper;
 import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.security.JwtPrincipalResolver;
 import com.meetus.MeetUSInterview.security.JwtUtil;
+import com.meetus.MeetUSInterview.security.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Registration and login.
+ * <p>
+ * Deliberately not transactional: password hashing takes tens of milliseconds, and holding a pooled
+ * connection through it starves the pool under login load. Each repository call runs in its own short
+ * transaction, before or after the hashing.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class UserService {
 
     private final UserRepository userRepository;
@@ -28,12 +39,18 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final JwtPrincipalResolver principalResolver;
+    private final EmailMembershipFilter emailMembershipFilter;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenService refreshTokenService;
 
 
     public AuthResponse register(RegisterRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
 
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // Only query when the filter cannot rule the email out; avoids hashing for known duplicates
+        if (emailMembershipFilter.mightContain(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("Email already exists");
         }
 
@@ -41,13 +58,20 @@ public class UserService {
         
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        // The unique email constraint is the source of truth, also for concurrent signups
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new IllegalArgumentException("Email already exists");
+            }
+            throw e;
+        }
+        emailMembershipFilter.add(savedUser.getEmail());
         log.info("User registered successfully with ID: {}", savedUser.getId());
 
-        String token = jwtUtil.generateToken(savedUser);
-
-        UserResponse userResponse = userMapper.toResponse(savedUser);
-        return AuthResponse.of(token, userResponse);
+        return authResponse(savedUser, refreshTokenService.issue(savedUser.getId()));
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -60,10 +84,73 @@ public class UserService {
             new UsernamePasswordAuthenticationToken(user.getId(), request.getPassword())
         );
 
+        upgradePasswordHashIfNeeded(user, request.getPassword());
+
         log.info("User logged in successfully: {}", user.getEmail());
+        return authResponse(user, refreshTokenService.issue(user.getId()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a successor refresh token, without password hashing
+     * @param refreshToken refresh token from login, register or a previous refresh
+     * @return authentication response with new tokens
+     */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        User user = userRepository.findById(rotation.userId())
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        log.debug("Access token refreshed for user ID: {}", user.getId());
+        return authResponse(user, rotation.refreshToken());
+    }
+
+    /**
+     * Revokes the given access token so it is rejected until it expires, and the refresh token family if given
+     * @param token JWT access token, may be null
+     * @param refreshToken refresh token, may be null
+     */
+    public void logout(String token, String refreshToken) {
+        if (token != null) {
+            Claims claims = jwtUtil.parseToken(token);
+            tokenRevocationStore.revoke(claims.getId(), claims.getExpiration().getTime());
+            log.info("User logged out, token revoked for user ID: {}", claims.getSubject());
+        }
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    private AuthResponse authResponse(User user, String refreshToken) {
         String token = jwtUtil.generateToken(user);
 
         UserResponse userResponse = userMapper.toResponse(user);
-        return AuthResponse.of(token, userResponse);
+        return AuthResponse.of(token, jwtUtil.getExpirationTime() / 1000, refreshToken, userResponse);
+    }
+
+    private boolean isUniqueViolation(DataIntegrityViolationException e) {
+        // Email is the only unique column besides the generated primary key
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rehashes a password stored with an outdated BCrypt cost, right after it was verified
+     * @param user authenticated user
+     * @param rawPassword password that was just verified
+     */
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        log.info("Upgrading password hash for user ID: {}", user.getId());
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        userRepository.save(user);
+        principalResolver.invalidate(user.getId());
     }
 }
@@ -0,0 +1,81 @@
+package com.meetus.MeetUSInterview.benchmark;
+
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.security.JwtKeyRing;
+import com.meetus.MeetUSInterview.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generate/verify throughput with per-call key derivation (previous JwtUtil) versus the pre-built JwtKeyRing.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main JwtTokenBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET =
+        "mySecretKeyForJWTTokenGenerationAndValidationPleaseChangeInProductionEnvironment1234567890";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing(SECRET, "primary", ""));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", EXPIRATION);
+        user = User.builder().id(42L).build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateLegacy() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(String.valueOf(user.getId()))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + EXPIRATION))
+                .signWith(legacyKey())
+                .compact();
+    }
+
+    @Benchmark
+    public String generateKeyRing() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyLegacy() {
+        return Jwts.parser()
+                .verifyWith(legacyKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims verifyKeyRing() {
+        return jwtUtil.parseToken(token);
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
@@ -0,0 +1,67 @@
+package com.meetus.MeetUSInterview.benchmark;
+
+import com.meetus.MeetUSInterview.MeetusInverviewApplication;
+import com.meetus.MeetUSInterview.dto.request.auth.RegisterRequest;
+import com.meetus.MeetUSInterview.dto.response.auth.AuthResponse;
+import com.meetus.MeetUSInterview.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent signup throughput with the email membership filter enabled (single insert for new emails)
+ * and disabled (existence query + insert). Runs the real UserService against the test profile's H2 database.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main SignupBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SignupBenchmark {
+
+    @Param({"true", "false"})
+    public boolean emailFilterEnabled;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(MeetusInverviewApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--app.users.email-filter.enabled=" + emailFilterEnabled,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meetus.MeetUSInterview=WARN",
+                        "--logging.level.org.springframework=WARN");
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public AuthResponse register() {
+        long id = sequence.incrementAndGet();
+        return userService.register(RegisterRequest.builder()
+                .name("Benchmark User")
+                .email("user" + id + "@bench.example.com")
+                .password("password123")
+                .build());
+    }
+}
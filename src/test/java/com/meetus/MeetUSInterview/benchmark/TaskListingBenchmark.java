@@ -0,0 +1,128 @@
+package com.meetus.MeetUSInterview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetus.MeetUSInterview.MeetusInverviewApplication;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of GET /api/v1/tasks as JSON: full entities mapped through TaskMapper (the previous read path) versus
+ * column projections with the default fields and with the description requested. Tasks carry 2 KB descriptions.
+ * Serialized bytes per page are printed once per trial; heap allocated per page is gc.alloc.rate.norm of -prof gc.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskListingBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListingBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final String DESCRIPTION = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(36);
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private EntityManager entityManager;
+    private TaskMapper taskMapper;
+    private ObjectMapper objectMapper;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(MeetusInverviewApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meetus.MeetUSInterview=WARN",
+                        "--logging.level.org.springframework=WARN");
+        taskService = context.getBean(TaskService.class);
+        entityManager = context.getBean(EntityManager.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("listing@bench.example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        seedTasks(context.getBean(JdbcTemplate.class));
+
+        System.out.printf("%nResponse bytes per page of %d: entities %d, projection %d, projection with description %d%n",
+                pageSize, entityPage().length, projectedPage().length, projectedPageWithDescription().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] entityPage() throws Exception {
+        List<Task> tasks = entityManager
+                .createQuery("select t from Task t where t.userId = :userId order by t.createdAt desc", Task.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize)
+                .getResultList();
+        long total = entityManager.createQuery("select count(t) from Task t where t.userId = :userId", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult();
+        return objectMapper.writeValueAsBytes(TaskPageResponse.builder()
+                .tasks(tasks.stream().map(taskMapper::toResponse).toList())
+                .currentPage(0)
+                .totalPages((int) ((total + pageSize - 1) / pageSize))
+                .totalElements(total)
+                .size(pageSize)
+                .first(true)
+                .last(total <= pageSize)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] projectedPage() throws Exception {
+        return objectMapper.writeValueAsBytes(taskService.getAllTasksForUser(
+                TaskSearchRequest.builder().size(pageSize).build(), userId));
+    }
+
+    @Benchmark
+    public byte[] projectedPageWithDescription() throws Exception {
+        return objectMapper.writeValueAsBytes(taskService.getAllTasksForUser(
+                TaskSearchRequest.builder().size(pageSize)
+                        .fields("id,title,description,status,userId,createdAt,updatedAt").build(), userId));
+    }
+
+    private void seedTasks(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new Object[]{"Task " + i, DESCRIPTION, "OPEN", userId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, user_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+}
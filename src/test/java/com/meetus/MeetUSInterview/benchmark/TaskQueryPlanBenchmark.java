@@ -0,0 +1,158 @@
+package com.meetus.MeetUSInterview.benchmark;
+
+import com.meetus.MeetUSInterview.MeetusInverviewApplication;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One listing page (10 tasks, default fields) through a Criteria tree built per request, as listings used to run,
+ * versus the JPQL template of its shape. Both open their own entity manager, as a listing does.
+ * Hibernate statistics for each trial are printed on teardown: the template path should show no plan cache misses,
+ * the Criteria path never reaches the plan cache because it is translated anew on every execution.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskQueryPlanBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskQueryPlanBenchmark {
+
+    private static final int TASKS = 1000;
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Param({"none", "status", "status+dates+search"})
+    public String filters;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private TaskSearchRequest request;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(MeetusInverviewApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--app.tasks.query-templates.precompile=true",
+                        "--app.tasks.search-index.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meetus.MeetUSInterview=WARN",
+                        "--logging.level.org.springframework=WARN");
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("plans@bench.example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        seedTasks(context.getBean(JdbcTemplate.class));
+
+        request = switch (filters) {
+            case "none" -> TaskSearchRequest.builder().build();
+            case "status" -> TaskSearchRequest.builder().status("open").build();
+            default -> TaskSearchRequest.builder().status("open").search("task 1")
+                    .fromDate(LocalDateTime.now().minusDays(1)).toDate(LocalDateTime.now().plusDays(1)).build();
+        };
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        System.out.printf("%nFilters %s: %d queries executed, plan cache hits %d, misses %d%n", filters,
+                statistics.getQueryExecutionCount(), statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount());
+        context.close();
+    }
+
+    @Benchmark
+    public List<Tuple> criteriaQuery() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<Task> root = query.from(Task.class);
+            query.multiselect(TaskField.DEFAULTS.stream()
+                    .<jakarta.persistence.criteria.Selection<?>>map(field -> root.get(field.getProperty()))
+                    .toList());
+            query.where(criteria(TaskFilter.of(userId, request), root, cb));
+            query.orderBy(QueryUtils.toOrders(SORT, root, cb));
+            return entityManager.createQuery(query).setMaxResults(10).getResultList();
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponse> templateQuery() {
+        return taskRepository.findProjected(TaskFilter.of(userId, request), TaskField.DEFAULTS, SORT, 0, Limit.of(10));
+    }
+
+    /**
+     * The listing criteria as a Criteria predicate tree
+     */
+    private static Predicate criteria(TaskFilter filter, Root<Task> root, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("userId"), filter.userId()));
+        if (filter.status() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.fromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.fromDate()));
+        }
+        if (filter.toDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.toDate()));
+        }
+        if (filter.search() != null) {
+            String pattern = "%" + filter.search().toLowerCase() + "%";
+            predicates.add(cb.or(cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern)));
+        }
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private void seedTasks(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new Object[]{"Task " + i, "Description " + i, i % 2 == 0 ? "OPEN" : "DONE", userId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, user_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+}
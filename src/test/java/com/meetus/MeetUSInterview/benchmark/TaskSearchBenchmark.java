@@ -0,0 +1,127 @@
+package com.meetus.MeetUSInterview.benchmark;
+
+import com.meetus.MeetUSInterview.MeetusInverviewApplication;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task search over 1M tasks of one user: the LIKE scan (index disabled) versus the inverted index,
+ * sorted by creation date and by relevance. Titles and descriptions draw words from a Zipf-like vocabulary,
+ * so "term3" is common, "term250" mid-frequency and "term4000" rare.
+ * Runs the real TaskService against the test profile's H2 database; the first index search per trial pays the build.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskSearchBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx6g")
+@State(Scope.Benchmark)
+public class TaskSearchBenchmark {
+
+    private static final int VOCABULARY = 5000;
+    private static final int BATCH = 10_000;
+
+    @Param({"1000000"})
+    public int tasks;
+
+    @Param({"true", "false"})
+    public boolean searchIndexEnabled;
+
+    @Param({"term250", "term4000", "term3 term250"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(MeetusInverviewApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--app.tasks.search-index.enabled=" + searchIndexEnabled,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.meetus.MeetUSInterview=WARN",
+                        "--logging.level.org.springframework=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("search@bench.example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        seedTasks(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskPageResponse searchByCreatedAt() {
+        return taskService.getAllTasksForUser(TaskSearchRequest.builder().search(query).build(), userId);
+    }
+
+    @Benchmark
+    public TaskPageResponse searchByRelevance() {
+        if (!searchIndexEnabled) {
+            // Relevance needs the index; measure the LIKE scan with an exact count like the other sorts
+            return searchByCreatedAt();
+        }
+        return taskService.getAllTasksForUser(
+                TaskSearchRequest.builder().search(query).sortBy("relevance").build(), userId);
+    }
+
+    private void seedTasks(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH);
+
+        for (int i = 0; i < tasks; i++) {
+            batch.add(new Object[]{words(random, 3), words(random, 12), "OPEN", userId, now, now});
+            if (batch.size() == BATCH) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, user_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    /**
+     * Word ranks follow roughly 1/rank, like natural text
+     */
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.pow(VOCABULARY, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append("term").append(rank);
+        }
+        return text.toString();
+    }
+}
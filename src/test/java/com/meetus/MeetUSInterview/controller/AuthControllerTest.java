@@ -2,9 +2,13 @@ package com.meetus.MeetUSInterview.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meetus.MeetUSInterview.dto.request.auth.LoginRequest;
+import com.meetus.MeetUSInterview.dto.request.auth.RefreshTokenRequest;
 import com.meetus.MeetUSInterview.dto.request.auth.RegisterRequest;
 import com.meetus.MeetUSInterview.dto.response.auth.AuthResponse;
 import com.meetus.MeetUSInterview.dto.response.auth.UserResponse;
+import com.meetus.MeetUSInterview.exception.ServiceOverloadedException;
+import com.meetus.MeetUSInterview.exception.TooManyAttemptsException;
+import com.meetus.MeetUSInterview.security.LoginThrottle;
 import com.meetus.MeetUSInterview.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,12 +17,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -39,6 +45,9 @@ class AuthControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     private RegisterRequest registerRequest;
     private LoginRequest loginRequest;
     private AuthResponse authResponse;
@@ -62,7 +71,7 @@ class AuthControllerTest {
                 .email("john@example.com")
                 .build();
 
-        authResponse = AuthResponse.of("jwt-token", userResponse);
+        authResponse = AuthResponse.of("jwt-token", 900, "refresh-token", userResponse);
     }
 
     @Test
@@ -109,6 +118,59 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.body.accessToken").value("jwt-token"));
     }
 
+    @Test
+    void testRefresh_Success() throws Exception {
+        when(userService.refresh("refresh-token")).thenReturn(authResponse);
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.body.accessToken").value("jwt-token"))
+                .andExpect(jsonPath("$.body.refreshToken").value("refresh-token"))
+                .andExpect(jsonPath("$.body.expiresIn").value(900));
+    }
+
+    @Test
+    void testRefresh_InvalidToken() throws Exception {
+        when(userService.refresh(anyString())).thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("reused-token"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void testLogin_Throttled() throws Exception {
+        doThrow(new TooManyAttemptsException("Too many login attempts, please retry later", 30))
+                .when(loginThrottle).checkAttempt(anyString(), anyString());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(userService, never()).login(any(LoginRequest.class));
+    }
+
+    @Test
+    void testLogin_HashingPoolSaturated() throws Exception {
+        when(userService.login(any(LoginRequest.class)))
+                .thenThrow(new ServiceOverloadedException("Authentication service is busy, please retry later", 2));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void testLogin_InvalidEmail() throws Exception {
         loginRequest.setEmail("invalid-email");
@@ -3,9 +3,25 @@ package com.meetus.MeetUSInterview.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meetus.MeetUSInterview.dto.request.task.TaskCreateRequest;
 import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskChangesResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskLookupResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskStatsResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskExportFormat;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.security.JwtUtil;
+import com.meetus.MeetUSInterview.security.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
+import com.meetus.MeetUSInterview.service.TaskDataVersions;
+import com.meetus.MeetUSInterview.service.TaskExportService;
+import com.meetus.MeetUSInterview.service.TaskLookupService;
 import com.meetus.MeetUSInterview.service.TaskService;
+import com.meetus.MeetUSInterview.service.TaskStatsService;
+import com.meetus.MeetUSInterview.service.TaskSyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +32,24 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,9 +68,36 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskLookupService taskLookupService;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
+    @MockBean
+    private TaskDataVersions taskDataVersions;
+
     private TaskCreateRequest createRequest;
     private TaskResponse taskResponse;
     private TaskPageResponse pageResponse;
@@ -75,6 +130,17 @@ class TaskControllerTest {
                 .build();
     }
 
+    @Test
+    @WithMockUser(username = "1")
+    void testActuator_OperatorEndpointsUnreachableForApiUsers() throws Exception {
+        mockMvc.perform(post("/actuator/taskstats"))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is4xxClientError());
+
+        verify(taskStatsService, never()).rebuild(any());
+    }
+
     @Test
     void testCreateTask_Unauthorized() throws Exception {
         mockMvc.perform(post("/api/v1/tasks")
@@ -119,6 +185,167 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.body.totalElements").value(1));
     }
 
+    @Test
+    void testGetAllTasks_BearerTokenResolvesUserIdFromClaims() throws Exception {
+        String token = jwtUtil.generateToken(User.builder().id(5L).build());
+        when(taskService.getTasks(any(TaskSearchRequest.class), eq(5L))).thenReturn(pageResponse);
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(taskService).getTasks(any(TaskSearchRequest.class), eq(5L));
+    }
+
+    @Test
+    @WithMockUser(username = "7")
+    void testGetAllTasks_IfNoneMatchAnsweredWithoutQueryUntilTasksChange() throws Exception {
+        when(taskService.getTasks(any(TaskSearchRequest.class), eq(7L))).thenReturn(pageResponse);
+        when(taskDataVersions.current(7L)).thenReturn(1L);
+
+        String etag = mockMvc.perform(get("/api/v1/tasks").param("status", "open"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").param("status", "open").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        // Another listing never matches
+        mockMvc.perform(get("/api/v1/tasks").param("status", "done").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        // A task write committed through any instance
+        when(taskDataVersions.current(7L)).thenReturn(2L);
+        mockMvc.perform(get("/api/v1/tasks").param("status", "open").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+
+        verify(taskService, times(3)).getTasks(any(TaskSearchRequest.class), eq(7L));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testGetTasksByIds_RoutedToLookup() throws Exception {
+        when(taskLookupService.getTasks(List.of(1L, 4L), 1L)).thenReturn(TaskLookupResponse.builder()
+                .tasks(List.of(taskResponse))
+                .notFound(List.of(4L))
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks").param("ids", "1,4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.tasks[0].id").value(1))
+                .andExpect(jsonPath("$.body.notFound[0]").value(4));
+
+        verify(taskService, never()).getTasks(any(TaskSearchRequest.class), anyLong());
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testLookupTasks_EmptyIdsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testGetTaskChanges_Success() throws Exception {
+        when(taskSyncService.getChanges("abc", 50, 1L)).thenReturn(TaskChangesResponse.builder()
+                .changed(List.of(taskResponse))
+                .deleted(List.of(4L))
+                .nextCursor("def")
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", "abc").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.changed[0].id").value(1))
+                .andExpect(jsonPath("$.body.deleted[0]").value(4))
+                .andExpect(jsonPath("$.body.nextCursor").value("def"))
+                .andExpect(jsonPath("$.body.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testGetTaskChanges_InvalidCursor() throws Exception {
+        when(taskSyncService.getChanges("forged", null, 1L))
+                .thenThrow(new IllegalArgumentException("Invalid pagination cursor"));
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", "forged"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllTasks_RevokedTokenUnauthorized() throws Exception {
+        String token = jwtUtil.generateToken(User.builder().id(5L).build());
+        Claims claims = jwtUtil.parseToken(token);
+        tokenRevocationStore.revoke(claims.getId(), claims.getExpiration().getTime());
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testExportTasks_Csv() throws Exception {
+        // A real bearer token, so the asynchronous dispatch that completes the stream goes through the JWT filter chain
+        String token = jwtUtil.generateToken(User.builder().id(1L).build());
+        // The stream is written only once the request thread is done with the response, as with a real container
+        CountDownLatch requestReturned = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requestReturned.await(5, TimeUnit.SECONDS);
+            invocation.<OutputStream>getArgument(3).write("id,title\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(taskExportService).export(any(TaskSearchRequest.class), eq(1L), eq(TaskExportFormat.CSV), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export")
+                .header("Authorization", "Bearer " + token)
+                .param("format", "csv")
+                .param("status", "open"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        requestReturned.countDown();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string("id,title\r\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testExportTasks_InvalidFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    void testGetTaskStats_Success() throws Exception {
+        LocalDate day = LocalDate.of(2024, 11, 2);
+        when(taskStatsService.getStats(1L, day, day)).thenReturn(TaskStatsResponse.builder()
+                .openTasks(2)
+                .doneTasks(1)
+                .totalTasks(3)
+                .from(day)
+                .to(day)
+                .createdPerDay(List.of(new TaskStatsResponse.DailyCount(day, 3)))
+                .build());
+
+        mockMvc.perform(get("/api/v1/tasks/stats")
+                .param("from", "2024-11-02")
+                .param("to", "2024-11-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.openTasks").value(2))
+                .andExpect(jsonPath("$.body.totalTasks").value(3))
+                .andExpect(jsonPath("$.body.createdPerDay[0].date").value("2024-11-02"))
+                .andExpect(jsonPath("$.body.createdPerDay[0].count").value(3));
+    }
+
     @Test
     @WithMockUser(username = "1")
     void testGetTaskById_Success() throws Exception {
@@ -131,6 +358,40 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.body.title").value("Test Task"));
     }
 
+    @Test
+    void testGetTaskById_IfNoneMatchAnsweredBeforeLoadingTask() throws Exception {
+        User owner = userRepository.save(User.builder()
+                .name("ETag Owner")
+                .email("etag-owner@example.com")
+                .password("hashedPassword")
+                .build());
+        Long taskId = taskRepository.save(Task.builder().title("Tagged task").userId(owner.getId()).build()).getId();
+        String token = jwtUtil.generateToken(owner);
+        when(taskService.getTaskById(taskId, owner.getId())).thenReturn(taskResponse);
+
+        try {
+            String etag = mockMvc.perform(get("/api/v1/tasks/" + taskId).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                            .header("Authorization", "Bearer " + token)
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+            // Another user's token gets no tag and the usual authorization check
+            mockMvc.perform(get("/api/v1/tasks/" + taskId)
+                            .header("Authorization", "Bearer " + jwtUtil.generateToken(
+                                    User.builder().id(owner.getId() + 1).build()))
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("ETag"));
+
+            verify(taskService, times(1)).getTaskById(taskId, owner.getId());
+        } finally {
+            userRepository.delete(owner);
+        }
+    }
+
     @Test
     @WithMockUser(username = "1")
     void testUpdateTask_Success() throws Exception {
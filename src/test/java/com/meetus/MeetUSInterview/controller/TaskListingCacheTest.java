@@ -0,0 +1,135 @@
+package com.meetus.MeetUSInterview.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetus.MeetUSInterview.dto.request.task.TaskCreateRequest;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.security.JwtUtil;
+import com.meetus.MeetUSInterview.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test of task listings through the page cache and the query coalescer, with real task writes
+ */
+@SpringBootTest(properties = "app.tasks.page-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskListingCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private TaskService taskService;
+
+    private User owner;
+    private String token;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("Cache Owner")
+                .email("cache-" + UUID.randomUUID() + "@example.com")
+                .password("hashedPassword")
+                .build());
+        token = "Bearer " + jwtUtil.generateToken(owner);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testGetAllTasks_ListingStartedBeforeAWriteIsNeitherJoinedNorCachedAfterIt() throws Exception {
+        createTask("First task");
+
+        // The first listing has read its rows and holds on to them until the write below has committed
+        CountDownLatch queried = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean firstListing = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            Object page = invocation.callRealMethod();
+            if (firstListing.getAndSet(false)) {
+                queried.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return page;
+        }).when(taskService).getTasks(any(TaskSearchRequest.class), eq(owner.getId()));
+
+        Future<MvcResult> stale = executor.submit(() -> list().andReturn());
+        assertThat(queried.await(5, TimeUnit.SECONDS)).isTrue();
+
+        createTask("Second task");
+        MvcResult fresh = list()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.totalElements").value(2))
+                .andReturn();
+
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS).getResponse().getContentAsString())
+                .contains("\"totalElements\":1");
+
+        // Served from the page cached for the current version, not the one the first listing built
+        MvcResult cached = list()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.totalElements").value(2))
+                .andReturn();
+        assertThat(cached.getResponse().getHeader("ETag")).isEqualTo(fresh.getResponse().getHeader("ETag"));
+        verify(taskService, times(2)).getTasks(any(TaskSearchRequest.class), eq(owner.getId()));
+    }
+
+    private ResultActions list() throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks").header("Authorization", token));
+    }
+
+    private void createTask(String title) throws Exception {
+        mockMvc.perform(post("/api/v1/tasks")
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TaskCreateRequest.builder().title(title).build())))
+                .andExpect(status().isCreated());
+    }
+}
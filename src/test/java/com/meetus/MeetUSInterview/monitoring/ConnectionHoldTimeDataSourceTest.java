@@ -0,0 +1,81 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ConnectionHoldTimeDataSource
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldTimeDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldTimeDataSource(targetDataSource, () -> meterRegistry);
+    }
+
+    @Test
+    void testClose_RecordsHoldTimeForServiceMethod() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        ServiceMethodContext.enter("UserService.login");
+        try {
+            Connection held = dataSource.getConnection();
+            held.setAutoCommit(false);
+            held.close();
+            // A second close must not count twice
+            held.close();
+        } finally {
+            ServiceMethodContext.exit();
+        }
+
+        Timer timer = meterRegistry.find(ConnectionHoldTimeDataSource.METRIC).tag("method", "UserService.login").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        verify(connection).setAutoCommit(false);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void testClose_OutsideServiceMethod() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection().close();
+
+        assertThat(meterRegistry.find(ConnectionHoldTimeDataSource.METRIC)
+                .tag("method", ServiceMethodContext.NONE).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testEnter_NestedCallsKeepOuterMethod() {
+        assertThat(ServiceMethodContext.enter("TaskService.createTask")).isTrue();
+        try {
+            assertThat(ServiceMethodContext.enter("UserService.login")).isFalse();
+            assertThat(ServiceMethodContext.current()).isEqualTo("TaskService.createTask");
+        } finally {
+            ServiceMethodContext.exit();
+        }
+        assertThat(ServiceMethodContext.current()).isEqualTo(ServiceMethodContext.NONE);
+    }
+}
@@ -0,0 +1,62 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for HibernateQueryPlanMetrics
+ */
+@ExtendWith(MockitoExtension.class)
+class HibernateQueryPlanMetricsTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    void testPublishesPlanCacheHitsAndMisses() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getQueryPlanCacheHitCount()).thenReturn(40L);
+        when(statistics.getQueryPlanCacheMissCount()).thenReturn(2L);
+        when(statistics.getQueryExecutionCount()).thenReturn(21L);
+
+        new HibernateQueryPlanMetrics(entityManagerFactory, meterRegistry);
+
+        assertThat(meterRegistry.get("hibernate.query.plan.cache").tag("result", "hit").functionCounter().count())
+                .isEqualTo(40);
+        assertThat(meterRegistry.get("hibernate.query.plan.cache").tag("result", "miss").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("hibernate.query.executions").functionCounter().count()).isEqualTo(21);
+    }
+
+    @Test
+    void testStatisticsDisabled_PublishesNothing() {
+        new HibernateQueryPlanMetrics(entityManagerFactory, meterRegistry);
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
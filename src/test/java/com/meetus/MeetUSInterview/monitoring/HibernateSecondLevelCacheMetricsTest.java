@@ -0,0 +1,69 @@
+package com.meetus.MeetUSInterview.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for HibernateSecondLevelCacheMetrics
+ */
+@ExtendWith(MockitoExtension.class)
+class HibernateSecondLevelCacheMetricsTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics taskRegion;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    void testPublishesHitsMissesAndPutsPerRegion() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"tasks"});
+        when(statistics.getDomainDataRegionStatistics("tasks")).thenReturn(taskRegion);
+        when(taskRegion.getHitCount()).thenReturn(30L);
+        when(taskRegion.getMissCount()).thenReturn(4L);
+        when(taskRegion.getPutCount()).thenReturn(5L);
+
+        new HibernateSecondLevelCacheMetrics(entityManagerFactory, meterRegistry);
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests").tags("region", "tasks", "result", "hit")
+                .functionCounter().count()).isEqualTo(30);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests").tags("region", "tasks", "result", "miss")
+                .functionCounter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.puts").tag("region", "tasks")
+                .functionCounter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void testStatisticsDisabled_PublishesNothing() {
+        new HibernateSecondLevelCacheMetrics(entityManagerFactory, meterRegistry);
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.meetus.MeetUSInterview.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every SQL statement Hibernate prepares, so tests can inspect the generated queries
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * @return statements captured since the last call
+     */
+    static List<String> drain() {
+        synchronized (STATEMENTS) {
+            List<String> statements = List.copyOf(STATEMENTS);
+            STATEMENTS.clear();
+            return statements;
+        }
+    }
+}
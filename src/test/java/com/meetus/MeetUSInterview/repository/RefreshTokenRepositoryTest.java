@@ -0,0 +1,88 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.entity.RefreshToken;
+import com.meetus.MeetUSInterview.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for RefreshTokenRepository
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+    }
+
+    @Test
+    void testMarkUsed_OnlyOnce() {
+        save("hash-1", "family-1", Instant.now().plusSeconds(60));
+
+        assertThat(refreshTokenRepository.markUsed("hash-1", Instant.now())).isEqualTo(1);
+        assertThat(refreshTokenRepository.markUsed("hash-1", Instant.now())).isZero();
+    }
+
+    @Test
+    void testMarkUsed_ExpiredOrRevoked() {
+        save("expired", "family-1", Instant.now().minusSeconds(1));
+        RefreshToken revoked = save("revoked", "family-2", Instant.now().plusSeconds(60));
+        revoked.setRevoked(true);
+        refreshTokenRepository.saveAndFlush(revoked);
+
+        assertThat(refreshTokenRepository.markUsed("expired", Instant.now())).isZero();
+        assertThat(refreshTokenRepository.markUsed("revoked", Instant.now())).isZero();
+        assertThat(refreshTokenRepository.markUsed("unknown", Instant.now())).isZero();
+    }
+
+    @Test
+    void testRevokeFamily() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        save("hash-1", "family-1", expiresAt);
+        save("hash-2", "family-1", expiresAt);
+        save("hash-3", "family-2", expiresAt);
+
+        assertThat(refreshTokenRepository.revokeFamily("family-1")).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.findById("hash-2")).get().extracting(RefreshToken::isRevoked).isEqualTo(true);
+        assertThat(refreshTokenRepository.findById("hash-3")).get().extracting(RefreshToken::isRevoked).isEqualTo(false);
+    }
+
+    private RefreshToken save(String tokenHash, String familyId, Instant expiresAt) {
+        return refreshTokenRepository.saveAndFlush(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
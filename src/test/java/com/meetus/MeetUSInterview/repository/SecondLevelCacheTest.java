@@ -0,0 +1,127 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache for Task and User, checked across committed transactions
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        userId = userRepository.save(User.builder()
+                .name("John Doe")
+                .email("l2cache@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        taskId = taskRepository.save(Task.builder()
+                .title("Cached task")
+                .userId(userId)
+                .build()).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findById(userId).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void testFindById_ServedFromCacheAcrossTransactions() {
+        transaction.execute(status -> taskRepository.findById(taskId));
+        transaction.execute(status -> userRepository.findById(userId));
+        long statements = statistics.getPrepareStatementCount();
+
+        Task task = transaction.execute(status -> taskRepository.findById(taskId).orElseThrow());
+        User user = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(task.getTitle()).isEqualTo("Cached task");
+        assertThat(user.getEmail()).isEqualTo("l2cache@example.com");
+        assertThat(region(Task.CACHE_REGION).getHitCount()).isPositive();
+        assertThat(region(User.CACHE_REGION).getHitCount()).isPositive();
+    }
+
+    @Test
+    void testGeneratedTimestamps_CachedAsStored() {
+        transaction.executeWithoutResult(status -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            task.setStatus(TaskStatus.DONE);
+        });
+
+        Task cached = taskRepository.findById(taskId).orElseThrow();
+
+        assertThat(cached.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(cached.getCreatedAt()).isEqualTo(column("created_at"));
+        assertThat(cached.getUpdatedAt()).isEqualTo(column("updated_at"));
+        assertThat(region(Task.CACHE_REGION).getHitCount()).isPositive();
+    }
+
+    @Test
+    void testUserDelete_EvictsTasksRemovedByForeignKeyCascade() {
+        taskRepository.findById(taskId);
+        assertThat(entityManagerFactory.getCache().contains(Task.class, taskId)).isTrue();
+
+        userRepository.deleteById(userId);
+
+        assertThat(entityManagerFactory.getCache().contains(Task.class, taskId)).isFalse();
+        assertThat(taskRepository.findById(taskId)).isEmpty();
+    }
+
+    private LocalDateTime column(String name) {
+        return jdbcTemplate.queryForObject("SELECT " + name + " FROM tasks WHERE id = ?", LocalDateTime.class, taskId);
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getDomainDataRegionStatistics(name);
+    }
+}
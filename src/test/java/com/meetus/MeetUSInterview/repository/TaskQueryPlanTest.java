@@ -0,0 +1,138 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL of every filter/sort combination a listing can produce through {@link TaskQueryTemplates}
+ * and fails if any of them reads the tasks table without an index
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.meetus.MeetUSInterview.repository.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+class TaskQueryPlanTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("John Doe")
+                // ANALYZE below commits, so every run needs its own user
+                .email("plan-" + UUID.randomUUID() + "@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(Task.builder().title("Task " + i).status(i % 2 == 0 ? TaskStatus.OPEN : TaskStatus.DONE)
+                    .userId(userId).build());
+        }
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+        CapturingStatementInspector.drain();
+    }
+
+    @Test
+    void testEveryQueryShape_UsesAnIndex() {
+        SoftAssertions softly = new SoftAssertions();
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        LocalDateTime to = LocalDateTime.now();
+
+        for (String status : new String[]{null, "open"}) {
+            for (LocalDateTime[] range : new LocalDateTime[][]{{null, null}, {from, null}, {null, to}, {from, to}}) {
+                for (String search : new String[]{null, "task"}) {
+                    for (String sortBy : new String[]{"id", "title", "status", "createdAt", "updatedAt"}) {
+                        for (Sort.Direction direction : Sort.Direction.values()) {
+                            TaskSearchRequest request = TaskSearchRequest.builder()
+                                    .status(status).fromDate(range[0]).toDate(range[1]).search(search).build();
+                            // The page query and the count query of a listing
+                            TaskFilter filter = TaskFilter.of(userId, request);
+                            taskRepository.findProjected(filter, TaskField.DEFAULTS,
+                                    Sort.by(direction, sortBy), 5, Limit.of(5));
+                            taskRepository.countMatching(filter);
+
+                            for (String sql : CapturingStatementInspector.drain()) {
+                                String plan = explain(sql);
+                                softly.assertThat(plan)
+                                        .as("%s sorted by %s %s", request, sortBy, direction)
+                                        .doesNotContainIgnoringCase("tableScan");
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        softly.assertAll();
+    }
+
+    @Test
+    void testLookupByIds_PaddedInListServedByPrimaryKey() {
+        List<Long> ids = taskRepository.findAll().stream()
+                .filter(task -> task.getUserId().equals(userId))
+                .map(Task::getId)
+                .toList();
+        CapturingStatementInspector.drain();
+
+        taskRepository.findByUserIdAndIdIn(userId, ids.subList(0, 3));
+        taskRepository.findByUserIdAndIdIn(userId, ids.subList(0, 4));
+        taskRepository.findByUserIdAndIdIn(userId, ids.subList(0, 5));
+        List<String> statements = CapturingStatementInspector.drain();
+
+        assertThat(statements).hasSize(3);
+        // 3 and 4 IDs share the 4-slot statement, 5 IDs take the 8-slot one
+        assertThat(statements.get(0)).isEqualTo(statements.get(1));
+        assertThat(statements.get(1).chars().filter(c -> c == '?').count()).isEqualTo(5);
+        assertThat(statements.get(2).chars().filter(c -> c == '?').count()).isEqualTo(9);
+        assertThat(explain(statements.get(2))).doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
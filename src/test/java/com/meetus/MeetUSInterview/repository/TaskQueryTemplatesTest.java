@@ -0,0 +1,100 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks through Hibernate's statistics that listings reuse compiled query plans instead of translating a query
+ * per request
+ */
+@DataJpaTest(properties = "app.tasks.query-templates.precompile=true")
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+class TaskQueryTemplatesTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("John Doe")
+                .email("templates@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testCommonListings_OnlyHitPrecompiledPlans() {
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        int queries = 0;
+
+        for (TaskStatus status : new TaskStatus[]{null, TaskStatus.OPEN}) {
+            for (LocalDateTime fromDate : new LocalDateTime[]{null, from}) {
+                for (String search : new String[]{null, "report"}) {
+                    for (Sort sort : new Sort[]{Sort.by("id"), Sort.by("title", "id"), Sort.by("createdAt", "id")}) {
+                        TaskFilter filter = new TaskFilter(userId, status, fromDate, null, search, null, null);
+                        taskRepository.findProjected(filter, TaskField.DEFAULTS, sort, 0, Limit.of(10));
+                        taskRepository.countMatching(filter);
+                        queries += 2;
+                    }
+                }
+            }
+        }
+        TaskCursor cursor = new TaskCursor("createdAt", Sort.Direction.DESC, LocalDateTime.now(), 10L);
+        taskRepository.findProjected(new TaskFilter(userId, null, null, null, null, List.of(1L, 2L), cursor),
+                TaskField.DEFAULTS, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")),
+                0, Limit.of(11));
+        queries++;
+
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(queries);
+        assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThanOrEqualTo(queries);
+    }
+
+    @Test
+    void testUncommonShape_CompiledOnFirstUseOnly() {
+        TaskFilter filter = new TaskFilter(userId, TaskStatus.DONE, null, null, null, null, null);
+        taskRepository.findProjected(filter, EnumSet.of(TaskField.ID, TaskField.DESCRIPTION), Sort.by("title"), 0,
+                Limit.of(10));
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        for (int i = 0; i < 3; i++) {
+            taskRepository.findProjected(filter, EnumSet.of(TaskField.ID, TaskField.DESCRIPTION), Sort.by("title"),
+                    i * 10, Limit.of(10));
+        }
+
+        assertThat(misses).isPositive();
+        assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(misses);
+    }
+}
@@ -1,15 +1,27 @@
 package com.meetus.MeetUSInterview.repository;
 
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
 import com.meetus.MeetUSInterview.entity.Task;
 import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskField;
 import com.meetus.MeetUSInterview.enums.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
 class TaskRepositoryTest {
 
     @Autowired
@@ -26,6 +39,9 @@ class TaskRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User testUser;
     private Task testTask;
 
@@ -88,4 +104,139 @@ class TaskRepositoryTest {
 
         assertThat(taskRepository.findById(savedTask.getId())).isEmpty();
     }
+
+    @Test
+    void testFindProjected_SelectsOnlyRequestedFields() {
+        taskRepository.save(testTask);
+        taskRepository.save(Task.builder().title("Done Task").description("Long text").status(TaskStatus.DONE)
+                .userId(testUser.getId()).build());
+        taskRepository.save(Task.builder().title("Other Task").status(TaskStatus.DONE).userId(testUser.getId()).build());
+
+        List<TaskResponse> page = taskRepository.findProjected(
+                new TaskFilter(testUser.getId(), TaskStatus.DONE, null, null, null, null, null),
+                EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS),
+                Sort.by(Sort.Direction.ASC, "title"), 0, Limit.of(1));
+
+        assertThat(page).singleElement().satisfies(task -> {
+            assertThat(task.getTitle()).isEqualTo("Done Task");
+            assertThat(task.getStatus()).isEqualTo("done");
+            assertThat(task.getDescription()).isNull();
+            assertThat(task.getCreatedAt()).isNull();
+        });
+        assertThat(taskRepository.findProjected(new TaskFilter(testUser.getId(), null, null, null, null, null, null),
+                TaskField.DEFAULTS, Sort.unsorted(), 1, Limit.unlimited())).hasSize(2);
+    }
+
+    @Test
+    void testFindProjected_BindsEveryCriterion() {
+        Task first = taskRepository.save(Task.builder().title("Weekly report").status(TaskStatus.DONE)
+                .userId(testUser.getId()).build());
+        Task second = taskRepository.save(Task.builder().title("Groceries").description("Report on prices")
+                .status(TaskStatus.DONE).userId(testUser.getId()).build());
+        taskRepository.save(Task.builder().title("Open report").status(TaskStatus.OPEN).userId(testUser.getId()).build());
+        taskRepository.save(Task.builder().title("Unrelated").status(TaskStatus.DONE).userId(testUser.getId()).build());
+        entityManager.flush();
+        LocalDateTime from = first.getCreatedAt().minusMinutes(1);
+        LocalDateTime to = LocalDateTime.now().plusMinutes(1);
+
+        TaskFilter search = new TaskFilter(testUser.getId(), TaskStatus.DONE, from, to, "REPORT", null, null);
+        assertThat(taskRepository.findProjected(search, TaskField.DEFAULTS, Sort.by(Sort.Direction.ASC, "id"), 0,
+                Limit.unlimited())).extracting(TaskResponse::getId).containsExactly(first.getId(), second.getId());
+        assertThat(taskRepository.countMatching(search)).isEqualTo(2);
+
+        TaskFilter ids = search.withIds(List.of(second.getId()));
+        assertThat(taskRepository.findProjected(ids, TaskField.DEFAULTS, Sort.unsorted(), 0, Limit.unlimited()))
+                .extracting(TaskResponse::getId).containsExactly(second.getId());
+        assertThat(taskRepository.countMatching(search.withIds(List.of()))).isZero();
+
+        TaskFilter afterFirst = search.withCursor(new TaskCursor("id", Sort.Direction.ASC, null, first.getId()));
+        assertThat(taskRepository.findProjected(afterFirst, TaskField.DEFAULTS, Sort.by(Sort.Direction.ASC, "id"), 0,
+                Limit.of(5))).extracting(TaskResponse::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void testFindProjected_KeysetPaginationVisitsEveryTaskOnce() {
+        for (int i = 0; i < 7; i++) {
+            taskRepository.save(Task.builder().title("Task " + i).status(TaskStatus.OPEN).userId(testUser.getId()).build());
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        TaskFilter all = new TaskFilter(testUser.getId(), null, null, null, null, null, null);
+        List<Long> expected = taskRepository.findProjected(all, TaskField.DEFAULTS, sort, 0, Limit.unlimited())
+                .stream().map(TaskResponse::getId).toList();
+
+        List<Long> visited = new ArrayList<>();
+        TaskFilter filter = all;
+        while (true) {
+            List<TaskResponse> page = taskRepository.findProjected(filter, TaskField.DEFAULTS, sort, 0, Limit.of(3));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(task -> visited.add(task.getId()));
+
+            TaskResponse last = page.get(page.size() - 1);
+            filter = all.withCursor(new TaskCursor("createdAt", Sort.Direction.DESC, last.getCreatedAt(), last.getId()));
+        }
+
+        assertThat(visited).hasSize(7).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testStreamProjected_StreamsMatchingRowsInOrder() {
+        taskRepository.save(testTask);
+        taskRepository.save(Task.builder().title("Second Task").status(TaskStatus.DONE).userId(testUser.getId()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskFilter filter = new TaskFilter(testUser.getId(), null, null, null, null, null, null);
+        try (Stream<TaskResponse> tasks = taskRepository.streamProjected(filter, EnumSet.allOf(TaskField.class),
+                Sort.by(Sort.Direction.ASC, "id"), 1)) {
+            assertThat(tasks.toList()).extracting(TaskResponse::getTitle).containsExactly("Test Task", "Second Task");
+        }
+    }
+
+    @Test
+    void testFindProjected_MatchTestWalksRowsInSortOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(taskRepository.save(Task.builder().title("Task " + i).status(TaskStatus.OPEN)
+                    .userId(testUser.getId()).build()).getId());
+        }
+        entityManager.flush();
+        // Every other task matches, as for a search with more matches than max-candidates
+        TaskFilter filter = new TaskFilter(testUser.getId(), null, null, null, null, null, null)
+                .withMatches(id -> ids.indexOf(id) % 2 == 0);
+
+        List<TaskResponse> page = taskRepository.findProjected(filter, EnumSet.of(TaskField.TITLE),
+                Sort.by(Sort.Direction.DESC, "id"), 1, Limit.of(1));
+
+        assertThat(page).extracting(TaskResponse::getTitle).containsExactly("Task 2");
+        assertThat(page.get(0).getId()).isNull();
+        assertThat(taskRepository.countMatching(filter)).isEqualTo(3);
+    }
+
+    @Test
+    void testFindChangedAfter_VisitsEveryChangeOnceInUpdateOrder() {
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(Task.builder().title("Task " + i).status(TaskStatus.OPEN).userId(testUser.getId()).build());
+        }
+        List<Long> expected = taskRepository.findAll(Sort.by("updatedAt", "id")).stream()
+                .filter(task -> task.getUserId().equals(testUser.getId()))
+                .map(Task::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        LocalDateTime at = LocalDateTime.of(1970, 1, 1, 0, 0);
+        Long id = 0L;
+        while (true) {
+            List<Task> page = taskRepository.findChangedAfter(testUser.getId(), at, id, Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(task -> visited.add(task.getId()));
+            at = page.get(page.size() - 1).getUpdatedAt();
+            id = page.get(page.size() - 1).getId();
+        }
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
 }
@@ -0,0 +1,80 @@
+package com.meetus.MeetUSInterview.repository;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import com.meetus.MeetUSInterview.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for TaskTombstoneRepository
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+class TaskTombstoneRepositoryTest {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+        otherUserId = userRepository.save(User.builder()
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+    }
+
+    @Test
+    void testFindAfter_PagesThroughTheUsersTombstones() {
+        save(1L, userId);
+        save(2L, otherUserId);
+        save(3L, userId);
+        save(4L, userId);
+
+        List<TaskTombstone> first = taskTombstoneRepository.findAfter(userId, BEGINNING, 0L, Limit.of(2));
+        TaskTombstone last = first.get(first.size() - 1);
+        List<TaskTombstone> second = taskTombstoneRepository.findAfter(userId, last.getDeletedAt(), last.getTaskId(),
+                Limit.of(2));
+
+        assertThat(first).extracting(TaskTombstone::getTaskId).containsExactly(1L, 3L);
+        assertThat(second).extracting(TaskTombstone::getTaskId).containsExactly(4L);
+    }
+
+    @Test
+    void testDeleteOlderThan() {
+        save(1L, userId);
+
+        assertThat(taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(1))).isZero();
+        assertThat(taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().plusMinutes(1))).isEqualTo(1);
+        assertThat(taskTombstoneRepository.findAll()).isEmpty();
+    }
+
+    private void save(Long taskId, Long ownerId) {
+        taskTombstoneRepository.saveAndFlush(TaskTombstone.builder().taskId(taskId).userId(ownerId).build());
+    }
+}
@@ -1,21 +1,28 @@
 package com.meetus.MeetUSInterview.repository;
 
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
 import com.meetus.MeetUSInterview.entity.User;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Test class for UserRepository
  */
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
 class UserRepositoryTest {
 
     @Autowired
@@ -71,6 +78,31 @@ class UserRepositoryTest {
         assertThat(exists).isTrue();
     }
 
+    @Test
+    void testSaveUser_DuplicateEmailIsUniqueViolation() {
+        userRepository.save(testUser);
+        User duplicate = User.builder()
+                .name("Jane Doe")
+                .email("john@example.com")
+                .password("hashedPassword")
+                .build();
+
+        assertThatThrownBy(() -> userRepository.save(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasCauseInstanceOf(ConstraintViolationException.class)
+                .cause()
+                .extracting("kind").isEqualTo(ConstraintViolationException.ConstraintKind.UNIQUE);
+    }
+
+    @Test
+    void testStreamAllEmails() {
+        userRepository.save(testUser);
+
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            assertThat(emails).containsExactly("john@example.com");
+        }
+    }
+
     @Test
     void testExistsByEmail_NotExists() {
         boolean exists = userRepository.existsByEmail("nonexistent@example.com");
@@ -0,0 +1,40 @@
+package com.meetus.MeetUSInterview.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for BCryptStrengthCalibrator
+ */
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    void testResolveStrength_FixedStrengthSkipsCalibration() {
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(12, 1, 4, 16);
+
+        assertThat(calibrator.resolveStrength()).isEqualTo(12);
+    }
+
+    @Test
+    void testResolveStrength_NeverBelowFloor() {
+        // No strength can hash in 0 ms, so the floor wins
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(0, 0, 5, 8);
+
+        assertThat(calibrator.resolveStrength()).isEqualTo(5);
+    }
+
+    @Test
+    void testResolveStrength_StaysWithinBounds() {
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(0, 10_000, 4, 6);
+
+        assertThat(calibrator.resolveStrength()).isBetween(4, 6);
+    }
+
+    @Test
+    void testInvalidBounds_Rejected() {
+        assertThatThrownBy(() -> new BCryptStrengthCalibrator(0, 50, 12, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.entity.User;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for JwtKeyRing
+ */
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET =
+        "mySecretKeyForJWTTokenGenerationAndValidationPleaseChangeInProductionEnvironment1234567890";
+    private static final String NEW_SECRET =
+        "testSecretKeyForJWTTokenGenerationAndValidationInTestEnvironment1234567890";
+
+    private final User testUser = User.builder().id(1L).build();
+
+    @Test
+    void testRotation_OldTokensVerifyWithRetiredKey() {
+        JwtUtil before = jwtUtil(new JwtKeyRing(OLD_SECRET, "2024-01", ""));
+        JwtUtil after = jwtUtil(new JwtKeyRing(NEW_SECRET, "2024-02", "2024-01:" + OLD_SECRET));
+
+        String oldToken = before.generateToken(testUser);
+        String newToken = after.generateToken(testUser);
+
+        assertThat(after.extractUserId(oldToken)).isEqualTo("1");
+        assertThat(after.extractUserId(newToken)).isEqualTo("1");
+    }
+
+    @Test
+    void testUnknownKeyId_Rejected() {
+        JwtUtil issuer = jwtUtil(new JwtKeyRing(OLD_SECRET, "retired", ""));
+        JwtUtil verifier = jwtUtil(new JwtKeyRing(NEW_SECRET, "current", ""));
+
+        String token = issuer.generateToken(testUser);
+
+        assertThatThrownBy(() -> verifier.parseToken(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void testDuplicateKeyId_Rejected() {
+        assertThatThrownBy(() -> new JwtKeyRing(NEW_SECRET, "primary", "primary:" + OLD_SECRET))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate JWT key id");
+    }
+
+    private JwtUtil jwtUtil(JwtKeyRing keyRing) {
+        JwtUtil jwtUtil = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000L);
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,52 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for JwtPrincipalResolver
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtPrincipalResolverTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private final Claims claims = Jwts.claims().subject("7").build();
+
+    @Test
+    void testResolve_TokenSourceSkipsDatabase() {
+        JwtPrincipalResolver resolver = new JwtPrincipalResolver(userDetailsService, "token", true, 60, 100);
+
+        UserDetails principal = resolver.resolve(claims);
+
+        assertThat(principal).isEqualTo(new AuthenticatedUser(7L));
+        assertThat(principal.getUsername()).isEqualTo("7");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testResolve_DatabaseSourceCachesUntilInvalidated() {
+        User user = User.builder().id(7L).email("john@example.com").build();
+        when(userDetailsService.loadUserByUsername("7")).thenReturn(user);
+        JwtPrincipalResolver resolver = new JwtPrincipalResolver(userDetailsService, "database", true, 60, 100);
+
+        assertThat(resolver.resolve(claims)).isSameAs(user);
+        assertThat(resolver.resolve(claims)).isSameAs(user);
+        verify(userDetailsService, times(1)).loadUserByUsername("7");
+
+        resolver.invalidate(7L);
+        resolver.resolve(claims);
+        verify(userDetailsService, times(2)).loadUserByUsername("7");
+    }
+}
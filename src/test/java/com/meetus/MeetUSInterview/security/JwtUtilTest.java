@@ -1,6 +1,7 @@
 package com.meetus.MeetUSInterview.security;
 
 import com.meetus.MeetUSInterview.entity.User;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -17,9 +18,9 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secretKey", 
-            "mySecretKeyForJWTTokenGenerationAndValidationPleaseChangeInProductionEnvironment1234567890");
+        jwtUtil = new JwtUtil(new JwtKeyRing(
+            "mySecretKeyForJWTTokenGenerationAndValidationPleaseChangeInProductionEnvironment1234567890",
+            "primary", ""));
         ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000L);
 
         testUser = User.builder()
@@ -72,6 +73,16 @@ class JwtUtilTest {
         assertThat(isValid).isFalse();
     }
 
+    @Test
+    void testParseToken_ClaimsReusedForValidation() {
+        String token = jwtUtil.generateToken(testUser);
+
+        Claims claims = jwtUtil.parseToken(token);
+
+        assertThat(claims.getSubject()).isEqualTo("1");
+        assertThat(jwtUtil.isTokenValid(claims, testUser)).isTrue();
+    }
+
     @Test
     void testGetExpirationTime() {
         long expirationTime = jwtUtil.getExpirationTime();
@@ -0,0 +1,103 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for LoginThrottle
+ */
+class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottle = new LoginThrottle(true, 1024, 3, 1, 10, 1, meterRegistry);
+    }
+
+    @Test
+    void testCheckAttempt_EmailBucketExhausted() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.checkAttempt("john@example.com", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAttempt("JOHN@example.com ", "10.0.0.9"))
+                .isInstanceOf(TooManyAttemptsException.class)
+                .satisfies(e -> assertThat(((TooManyAttemptsException) e).getRetryAfterSeconds()).isPositive());
+        assertThat(meterRegistry.counter("security.login.throttled", "key", "email").count()).isEqualTo(1);
+
+        // Other emails keep their own budget
+        loginThrottle.checkAttempt("jane@example.com", "10.0.0.9");
+    }
+
+    @Test
+    void testCheckAttempt_EmailRejectionDoesNotCostTheAddress() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.checkAttempt("john@example.com", "10.0.0." + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> loginThrottle.checkAttempt("john@example.com", "10.0.0.9"))
+                    .isInstanceOf(TooManyAttemptsException.class);
+        }
+
+        // The address still has its whole budget; no email, so only the address bucket is charged
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.checkAttempt(null, "10.0.0.9");
+        }
+        assertThat(meterRegistry.counter("security.login.throttled", "key", "address").count()).isZero();
+    }
+
+    @Test
+    void testCheckAttempt_AddressBucketExhausted() {
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.checkAttempt("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAttempt("other@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyAttemptsException.class);
+        assertThat(meterRegistry.counter("security.login.throttled", "key", "address").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCheckAttempt_ConcurrentAttemptsNeverExceedCapacity() throws InterruptedException {
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 200; i++) {
+            int n = i;
+            pool.execute(() -> {
+                try {
+                    loginThrottle.checkAttempt("john@example.com", "10.0." + n / 256 + "." + n % 256);
+                    allowed.incrementAndGet();
+                } catch (TooManyAttemptsException ignored) {
+                    // expected once the bucket is empty
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testCheckAttempt_Disabled() {
+        LoginThrottle disabled = new LoginThrottle(false, 1024, 1, 1, 1, 1, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            disabled.checkAttempt("john@example.com", "10.0.0.1");
+        }
+    }
+}
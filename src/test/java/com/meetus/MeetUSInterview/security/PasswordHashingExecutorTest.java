@@ -0,0 +1,82 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for PasswordHashingExecutor
+ */
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 5000, 3, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testExecute_ReturnsResult() {
+        String result = executor.execute("encode", () -> "hash");
+
+        assertThat(result).isEqualTo("hash");
+        assertThat(meterRegistry.get("security.password.hashing").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testExecute_RejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> executor.execute("matches", () -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Occupies the single queue slot
+        CompletableFuture.runAsync(() -> executor.execute("matches", () -> true));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> executor.execute("matches", () -> true))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testExecute_PropagatesTaskFailure() {
+        assertThatThrownBy(() -> executor.execute("encode", () -> {
+            throw new IllegalArgumentException("bad input");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad input");
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getQueueDepth() < depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
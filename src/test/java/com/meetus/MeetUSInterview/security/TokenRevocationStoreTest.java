@@ -0,0 +1,118 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.entity.RevokedToken;
+import com.meetus.MeetUSInterview.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for TokenRevocationStore
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenRevocationStore(revokedTokenRepository, HOUR / 4, 24 * HOUR);
+    }
+
+    @Test
+    void testRevoke_TokenRejectedAndPersisted() {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+
+        store.revoke("jti-1", expiresAt);
+
+        assertThat(store.isRevoked("jti-1", expiresAt)).isTrue();
+        assertThat(store.isRevoked("jti-2", expiresAt)).isFalse();
+        assertThat(store.isRevoked(null, expiresAt)).isFalse();
+        verify(revokedTokenRepository).saveAndFlush(any(RevokedToken.class));
+    }
+
+    @Test
+    void testRevoke_ConcurrentDuplicateTreatedAsRevoked() {
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        store.revoke("jti-1", expiresAt);
+
+        assertThat(store.isRevoked("jti-1", expiresAt)).isTrue();
+    }
+
+    @Test
+    void testRevoke_AlreadyExpiredTokenIgnored() {
+        store.revoke("jti-1", System.currentTimeMillis() - 1000);
+
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void testLoad_RestoresPersistedRevocations() {
+        Instant expiresAt = Instant.now().plusSeconds(7200);
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class)))
+                .thenReturn(List.of(RevokedToken.builder().jti("jti-1").expiresAt(expiresAt).build()));
+
+        store.load();
+
+        assertThat(store.isRevoked("jti-1", expiresAt.toEpochMilli())).isTrue();
+    }
+
+    @Test
+    void testLoad_RingCoversRevocationsBeyondTheConfiguredLifetimes() {
+        // Tokens issued with a longer lifetime before it was shortened, revoked hours apart
+        Instant now = Instant.now();
+        Instant first = now.plusMillis(20 * HOUR);
+        Instant second = now.plusMillis(22 * HOUR);
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class))).thenReturn(List.of(
+                RevokedToken.builder().jti("jti-1").expiresAt(first).build(),
+                RevokedToken.builder().jti("jti-2").expiresAt(second).build()));
+        store = new TokenRevocationStore(revokedTokenRepository, HOUR / 4, HOUR / 4);
+
+        store.load();
+
+        assertThat(store.isRevoked("jti-1", first.toEpochMilli())).isTrue();
+        assertThat(store.isRevoked("jti-2", second.toEpochMilli())).isTrue();
+    }
+
+    @Test
+    void testEvictExpired_DropsPastHourBuckets() {
+        long live = System.currentTimeMillis() + HOUR;
+        store.revoke("live", live);
+        // Simulate a bucket left over from an hour that has already passed
+        long pastHour = System.currentTimeMillis() / HOUR - 1;
+        ReflectionTestUtils.invokeMethod(store, "addLocal", "stale", pastHour * HOUR);
+
+        store.evictExpired();
+
+        AtomicReferenceArray<?> buckets = (AtomicReferenceArray<?>) ReflectionTestUtils.getField(store, "buckets");
+        int nonEmpty = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            if (buckets.get(i) != null) {
+                nonEmpty++;
+            }
+        }
+        assertThat(nonEmpty).isEqualTo(1);
+        assertThat(store.isRevoked("live", live)).isTrue();
+        verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+    }
+}
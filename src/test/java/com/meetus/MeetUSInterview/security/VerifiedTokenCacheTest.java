@@ -0,0 +1,67 @@
+package com.meetus.MeetUSInterview.security;
+
+import com.meetus.MeetUSInterview.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for VerifiedTokenCache
+ */
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing(
+            "mySecretKeyForJWTTokenGenerationAndValidationPleaseChangeInProductionEnvironment1234567890",
+            "primary", ""));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000L);
+
+        token = jwtUtil.generateToken(User.builder().id(1L).build());
+    }
+
+    @Test
+    void testVerify_SecondLookupIsHit() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 86400000L, new SimpleMeterRegistry());
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Claims> verifier = t -> {
+            verifications.incrementAndGet();
+            return jwtUtil.parseToken(t);
+        };
+
+        Claims first = cache.verify(token, verifier);
+        Claims second = cache.verify(token, verifier);
+
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testVerify_DisabledAlwaysVerifies() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, 86400000L, new SimpleMeterRegistry());
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Claims> verifier = t -> {
+            verifications.incrementAndGet();
+            return jwtUtil.parseToken(t);
+        };
+
+        cache.verify(token, verifier);
+        cache.verify(token, verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.google.common.hash.Hashing;
+import com.meetus.MeetUSInterview.entity.RefreshToken;
+import com.meetus.MeetUSInterview.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for RefreshTokenService
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 60_000);
+    }
+
+    @Test
+    void testIssue_StoresOnlyHash() {
+        String token = refreshTokenService.issue(1L);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(hash(token)).isNotEqualTo(token);
+        assertThat(saved.getValue().getUserId()).isEqualTo(1L);
+        assertThat(saved.getValue().getFamilyId()).isNotBlank();
+    }
+
+    @Test
+    void testRotate_IssuesSuccessorInSameFamily() {
+        when(refreshTokenRepository.findById(hash("token"))).thenReturn(Optional.of(stored(null)));
+        when(refreshTokenRepository.markUsed(eq(hash("token")), any(Instant.class))).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("token");
+
+        assertThat(rotation.userId()).isEqualTo(1L);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo("family-1");
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(hash(rotation.refreshToken()));
+    }
+
+    @Test
+    void testRotate_ReuseRevokesFamily() {
+        when(refreshTokenRepository.findById(hash("token"))).thenReturn(Optional.of(stored(Instant.now())));
+        when(refreshTokenRepository.markUsed(eq(hash("token")), any(Instant.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("token"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void testRotate_UnknownToken() {
+        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("token"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository, never()).markUsed(anyString(), any(Instant.class));
+    }
+
+    private RefreshToken stored(Instant usedAt) {
+        return RefreshToken.builder()
+                .tokenHash(hash("token"))
+                .familyId("family-1")
+                .userId(1L)
+                .expiresAt(Instant.now().plusSeconds(60))
+                .usedAt(usedAt)
+                .build();
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+}
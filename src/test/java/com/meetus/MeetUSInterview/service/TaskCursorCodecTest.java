@@ -0,0 +1,65 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.repository.TaskChangesCursor;
+import com.meetus.MeetUSInterview.repository.TaskCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for TaskCursorCodec
+ */
+class TaskCursorCodecTest {
+
+    private final TaskCursorCodec codec = new TaskCursorCodec("testCursorSecret");
+
+    @Test
+    void testRoundTrip() {
+        TaskCursor cursor = new TaskCursor("createdAt", Sort.Direction.DESC, LocalDateTime.of(2024, 11, 1, 10, 30, 0, 123456000), 42L);
+
+        assertThat(codec.decode(codec.encode(cursor, 1L), 1L)).isEqualTo(cursor);
+    }
+
+    @Test
+    void testDecode_RejectsTamperedCursor() {
+        String token = codec.encode(new TaskCursor("id", Sort.Direction.ASC, null, 42L), 1L);
+        String forged = codec.encode(new TaskCursor("id", Sort.Direction.ASC, null, 1L), 1L);
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThatThrownBy(() -> codec.decode(tampered, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("not-a-cursor", 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDecode_RejectsOtherUsersCursor() {
+        String token = codec.encode(new TaskCursor("id", Sort.Direction.ASC, null, 42L), 1L);
+
+        assertThatThrownBy(() -> codec.decode(token, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void testChangesRoundTrip() {
+        TaskChangesCursor cursor = new TaskChangesCursor(LocalDateTime.of(2024, 11, 1, 10, 30, 0, 123456000), 42L,
+                LocalDateTime.of(2024, 11, 2, 8, 0), 7L);
+
+        assertThat(codec.decodeChanges(codec.encodeChanges(cursor, 1L), 1L)).isEqualTo(cursor);
+        assertThatThrownBy(() -> codec.decodeChanges(codec.encodeChanges(cursor, 1L), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCursorKindsNotInterchangeable() {
+        String pageToken = codec.encode(new TaskCursor("id", Sort.Direction.ASC, null, 42L), 1L);
+        String changesToken = codec.encodeChanges(new TaskChangesCursor(LocalDateTime.of(2024, 11, 1, 0, 0), 1L,
+                LocalDateTime.of(2024, 11, 1, 0, 0), 1L), 1L);
+
+        assertThatThrownBy(() -> codec.decodeChanges(pageToken, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(changesToken, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskETags
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskETagsTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskETags taskETags;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskETags = new TaskETags(new TaskDataVersions(taskStatsRepository), taskRepository, meterRegistry);
+    }
+
+    @Test
+    void testForListing_StableUntilTheUsersTasksChange() {
+        when(taskStatsRepository.findDataVersion(1L)).thenReturn(Optional.of(4L));
+        when(taskStatsRepository.findDataVersion(2L)).thenReturn(Optional.of(4L));
+        String etag = taskETags.forListing(1L, TaskSearchRequest.builder().status("open").build());
+
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(taskETags.forListing(1L, TaskSearchRequest.builder().status("OPEN").page(0).build()))
+                .isEqualTo(etag);
+        assertThat(taskETags.forListing(1L, TaskSearchRequest.builder().status("done").build())).isNotEqualTo(etag);
+        assertThat(taskETags.forListing(2L, TaskSearchRequest.builder().status("open").build())).isNotEqualTo(etag);
+
+        when(taskStatsRepository.findDataVersion(1L)).thenReturn(Optional.of(5L));
+        assertThat(taskETags.forListing(1L, TaskSearchRequest.builder().status("open").build())).isNotEqualTo(etag);
+    }
+
+    @Test
+    void testForListing_InvalidRequestRejected() {
+        assertThatThrownBy(() -> taskETags.forListing(1L, TaskSearchRequest.builder().status("pending").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testForTask_FromModificationTime() {
+        when(taskRepository.findUpdatedAt(3L, 1L)).thenReturn(Optional.of(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1_000)));
+        when(taskRepository.findUpdatedAt(4L, 1L)).thenReturn(Optional.empty());
+
+        assertThat(taskETags.forTask(3L, 1L)).contains("\"3-1704067200000001\"");
+        assertThat(taskETags.forTask(4L, 1L)).isEmpty();
+    }
+
+    @Test
+    void testRecord_PublishesNotModifiedRatio() {
+        taskETags.record(true);
+        taskETags.record(true);
+        taskETags.record(true);
+        taskETags.record(false);
+
+        assertThat(meterRegistry.get("tasks.etag.requests").tag("result", "not_modified").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("tasks.etag.not.modified.ratio").gauge().value()).isEqualTo(0.75);
+    }
+}
@@ -0,0 +1,118 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.enums.TaskExportFormat;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskExportService
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    private TaskExportService taskExportService;
+
+    private final TaskResponse first = TaskResponse.builder()
+            .id(1L).title("Plain title").status("open").userId(7L).build();
+    private final TaskResponse second = TaskResponse.builder()
+            .id(2L).title("Title, with \"quotes\"").description("Two\nlines").status("done").userId(7L).build();
+
+    @BeforeEach
+    void setUp() {
+        taskExportService = new TaskExportService(taskRepository, taskSearchIndex, new ObjectMapper(), 100);
+        lenient().when(taskSearchIndex.resolve(any(TaskFilter.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testExport_Ndjson() throws IOException {
+        when(taskRepository.streamProjected(any(TaskFilter.class), eq(EnumSet.allOf(TaskField.class)), any(Sort.class), eq(100)))
+                .thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = taskExportService.export(new TaskSearchRequest(), 7L, TaskExportFormat.NDJSON, output);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"title\":\"Plain title\",\"status\":\"open\",\"userId\":7}\n"
+                        + "{\"id\":2,\"title\":\"Title, with \\\"quotes\\\"\",\"description\":\"Two\\nlines\","
+                        + "\"status\":\"done\",\"userId\":7}\n");
+    }
+
+    @Test
+    void testExport_CsvQuotesSpecialCharacters() throws IOException {
+        when(taskRepository.streamProjected(any(TaskFilter.class), eq(EnumSet.allOf(TaskField.class)), any(Sort.class), eq(100)))
+                .thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        taskExportService.export(new TaskSearchRequest(), 7L, TaskExportFormat.CSV, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,description,status,userId,createdAt,updatedAt\r\n"
+                        + "1,Plain title,,open,7,,\r\n"
+                        + "2,\"Title, with \"\"quotes\"\"\",\"Two\nlines\",done,7,,\r\n");
+    }
+
+    @Test
+    void testExport_ClientDisconnectClosesCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        // Endless rows: only the failing write can end the export
+        when(taskRepository.streamProjected(any(TaskFilter.class), eq(EnumSet.allOf(TaskField.class)), any(Sort.class), eq(100)))
+                .thenReturn(Stream.iterate(first, task -> task).onClose(() -> closed.set(true)));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> taskExportService.export(new TaskSearchRequest(), 7L, TaskExportFormat.CSV, disconnected))
+                .isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testExport_SearchUsesTheIndexMatchesLikeListings() throws IOException {
+        TaskSearchRequest request = new TaskSearchRequest();
+        request.setSearch("plain");
+        TaskFilter matches = TaskFilter.of(7L, request).withIds(List.of(1L));
+        when(taskSearchIndex.resolve(TaskFilter.of(7L, request))).thenReturn(matches);
+        when(taskRepository.streamProjected(eq(matches), eq(EnumSet.allOf(TaskField.class)), any(Sort.class), eq(100)))
+                .thenReturn(Stream.of(first));
+
+        long count = taskExportService.export(request, 7L, TaskExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertThat(count).isEqualTo(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskLookupResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskLookupService
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskLookupServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private TaskLookupService taskLookupService;
+
+    @BeforeEach
+    void setUp() {
+        taskLookupService = new TaskLookupService(taskRepository, taskMapper, 3);
+    }
+
+    @Test
+    void testGetTasks_FoundInRequestOrderAndRestReported() {
+        Task first = Task.builder().id(5L).userId(1L).build();
+        Task second = Task.builder().id(2L).userId(1L).build();
+        when(taskRepository.findByUserIdAndIdIn(1L, Set.of(2L, 9L, 5L))).thenReturn(List.of(first, second));
+        when(taskMapper.toResponse(any(Task.class)))
+                .thenAnswer(invocation -> TaskResponse.builder().id(invocation.<Task>getArgument(0).getId()).build());
+
+        // 9 is missing or someone else's; the duplicate 2 is fetched once
+        TaskLookupResponse response = taskLookupService.getTasks(List.of(2L, 9L, 5L, 2L), 1L);
+
+        assertThat(response.getTasks()).extracting(TaskResponse::getId).containsExactly(2L, 5L);
+        assertThat(response.getNotFound()).containsExactly(9L);
+        verify(taskRepository).findByUserIdAndIdIn(1L, Set.of(2L, 9L, 5L));
+    }
+
+    @Test
+    void testGetTasks_TooManyIds() {
+        assertThatThrownBy(() -> taskLookupService.getTasks(List.of(1L, 2L, 3L, 4L), 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most 3");
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTasks_NoIds() {
+        assertThatThrownBy(() -> taskLookupService.getTasks(Arrays.asList(null, null), 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository);
+    }
+}
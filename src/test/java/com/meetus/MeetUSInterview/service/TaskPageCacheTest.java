@@ -0,0 +1,114 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.APIResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskPageCache
+ */
+class TaskPageCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    /** Data versions as stored in task_stats, which every instance reads */
+    private final Map<Long, Long> storedVersions = new ConcurrentHashMap<>();
+    private TaskDataVersions dataVersions;
+    private TaskPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TaskStatsRepository taskStatsRepository = mock(TaskStatsRepository.class);
+        when(taskStatsRepository.findDataVersion(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedVersions.get(invocation.<Long>getArgument(0))));
+        dataVersions = new TaskDataVersions(taskStatsRepository);
+        cache = new TaskPageCache(true, 1024 * 1024, dataVersions, objectMapper, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testRepeatedRequest_ServedFromCacheWithoutLoading() {
+        byte[] first = cache.get(1L, TaskSearchRequest.builder().status("open").build(), page(3));
+        // Same listing spelled differently
+        byte[] second = cache.get(1L, TaskSearchRequest.builder().status("OPEN").page(0).sortDirection("desc").build(),
+                page(4));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"totalElements\":3");
+        assertThat(loads).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void testTaskChange_InvalidatesOnlyThatUsersPagesWhereverItWasMade() {
+        cache.get(1L, new TaskSearchRequest(), page(1));
+        cache.get(2L, new TaskSearchRequest(), page(1));
+
+        // Committed through any instance
+        storedVersions.merge(1L, 1L, Long::sum);
+        byte[] user1 = cache.get(1L, new TaskSearchRequest(), page(2));
+        byte[] user2 = cache.get(2L, new TaskSearchRequest(), page(2));
+
+        assertThat(new String(user1, StandardCharsets.UTF_8)).contains("\"totalElements\":2");
+        assertThat(new String(user2, StandardCharsets.UTF_8)).contains("\"totalElements\":1");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void testByteLimit_EvictsPagesAndCountsThem() {
+        long maxBytes = 4096;
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TaskPageCache(true, maxBytes, dataVersions, objectMapper, meterRegistry);
+
+        for (int page = 0; page < 50; page++) {
+            cache.get(1L, TaskSearchRequest.builder().page(page).build(), page(page));
+        }
+
+        assertThat(meterRegistry.get("tasks.page.cache.evictions").counter().count()).isPositive();
+        assertThat(meterRegistry.get("tasks.page.cache.size").gauge().value()).isLessThan(50);
+        assertThat(meterRegistry.get("tasks.page.cache.bytes").gauge().value()).isPositive().isLessThanOrEqualTo(maxBytes);
+    }
+
+    @Test
+    void testDisabled_LoadsEveryTime() {
+        cache = new TaskPageCache(false, 1024 * 1024, dataVersions, objectMapper, new SimpleMeterRegistry());
+
+        cache.get(1L, new TaskSearchRequest(), page(1));
+        byte[] second = cache.get(1L, new TaskSearchRequest(), page(1));
+
+        assertThat(new String(second, StandardCharsets.UTF_8)).contains("\"success\":true");
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<APIResponse<TaskPageResponse>> page(long totalElements) {
+        return () -> {
+            loads.incrementAndGet();
+            return APIResponse.success(TaskPageResponse.builder().totalElements(totalElements).build(),
+                    "Tasks retrieved successfully");
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("tasks.page.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,189 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
+import com.meetus.MeetUSInterview.exception.ServiceOverloadedException;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskQueryCoalescer
+ */
+class TaskQueryCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    /** Data versions as stored in task_stats, which every instance reads */
+    private final Map<Long, Long> storedVersions = new ConcurrentHashMap<>();
+    private TaskDataVersions dataVersions;
+    private TaskQueryCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TaskStatsRepository taskStatsRepository = mock(TaskStatsRepository.class);
+        when(taskStatsRepository.findDataVersion(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedVersions.get(invocation.<Long>getArgument(0))));
+        dataVersions = new TaskDataVersions(taskStatsRepository);
+        coalescer = new TaskQueryCoalescer(true, 2000, 1, dataVersions, meterRegistry);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testIdenticalConcurrentRequests_ShareOneQuery() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        TaskPageResponse page = TaskPageResponse.builder().totalElements(3L).build();
+        Supplier<TaskPageResponse> query = () -> {
+            executions.incrementAndGet();
+            block(release);
+            return page;
+        };
+
+        Future<TaskPageResponse> leader = executor.submit(() -> coalescer.coalesce(1L,
+                TaskSearchRequest.builder().status("open").build(), query));
+        await().until(() -> executions.get() == 1);
+        // Same listing spelled differently: explicit defaults, other status case
+        Future<TaskPageResponse> follower = executor.submit(() -> coalescer.coalesce(1L,
+                TaskSearchRequest.builder().status("OPEN").page(0).size(10).sortBy("createdAt").sortDirection("desc")
+                        .build(), query));
+        await().until(() -> joinedCount() == 1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(page);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(page);
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("tasks.query.coalescing.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void testDifferentUsersOrRequests_RunTheirOwnQueries() {
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<TaskPageResponse> query = () -> {
+            executions.incrementAndGet();
+            return TaskPageResponse.builder().build();
+        };
+
+        coalescer.coalesce(1L, TaskSearchRequest.builder().build(), query);
+        coalescer.coalesce(2L, TaskSearchRequest.builder().build(), query);
+        coalescer.coalesce(1L, TaskSearchRequest.builder().page(1).build(), query);
+        // Finished queries are never reused
+        coalescer.coalesce(1L, TaskSearchRequest.builder().build(), query);
+
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    void testFailure_ReachesEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<TaskPageResponse> query = () -> {
+            executions.incrementAndGet();
+            block(release);
+            throw new IllegalArgumentException("Invalid cursor");
+        };
+
+        Future<TaskPageResponse> leader = executor.submit(() -> coalescer.coalesce(1L, new TaskSearchRequest(), query));
+        await().until(() -> executions.get() == 1);
+        Future<TaskPageResponse> follower = executor.submit(() -> coalescer.coalesce(1L, new TaskSearchRequest(), query));
+        await().until(() -> joinedCount() == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void testWaiterTimeout_RejectsWithRetryAfter() throws Exception {
+        coalescer = new TaskQueryCoalescer(true, 50, 1, dataVersions, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<TaskPageResponse> leader = executor.submit(() -> coalescer.coalesce(1L, new TaskSearchRequest(), () -> {
+            started.countDown();
+            block(release);
+            return TaskPageResponse.builder().build();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> coalescer.coalesce(1L, new TaskSearchRequest(), TaskPageResponse::new))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("tasks.query.coalescing.timeouts").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void testTaskChange_LaterRequestsDoNotJoinAListingStartedBeforeIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<TaskPageResponse> stale = executor.submit(() -> coalescer.coalesce(1L, new TaskSearchRequest(), () -> {
+            started.countDown();
+            block(release);
+            return TaskPageResponse.builder().totalElements(1L).build();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // Committed through any instance, with no local event
+        storedVersions.merge(1L, 1L, Long::sum);
+        TaskPageResponse fresh = coalescer.coalesce(1L, new TaskSearchRequest(),
+                () -> TaskPageResponse.builder().totalElements(2L).build());
+        release.countDown();
+
+        assertThat(fresh.getTotalElements()).isEqualTo(2L);
+        assertThat(stale.get(5, TimeUnit.SECONDS).getTotalElements()).isEqualTo(1L);
+        assertThat(joinedCount()).isZero();
+    }
+
+    @Test
+    void testDisabled_RunsEveryQuery() {
+        coalescer = new TaskQueryCoalescer(false, 2000, 1, dataVersions, new SimpleMeterRegistry());
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.coalesce(1L, new TaskSearchRequest(), () -> {
+            executions.incrementAndGet();
+            return TaskPageResponse.builder().build();
+        });
+
+        assertThat(executions).hasValue(1);
+    }
+
+    private double joinedCount() {
+        return meterRegistry.get("tasks.query.coalescing").tag("result", "joined").counter().count();
+    }
+
+    private static void block(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
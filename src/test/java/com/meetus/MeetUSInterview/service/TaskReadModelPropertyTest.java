@@ -0,0 +1,312 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.config.SecondLevelCacheConfig;
+import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Property tests for TaskReadModel: random tasks and random listings, each answered both in memory and by the
+ * database. Rows and totals must match a Criteria query of the same filter; pages must match the projection query
+ * sorted by the same key with ID as tie-breaker. Every run is seeded, so a failure reproduces.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SecondLevelCacheConfig.class)
+class TaskReadModelPropertyTest {
+
+    private static final int LISTINGS_PER_RUN = 100;
+    private static final List<String> SORT_FIELDS = List.of("id", "title", "status", "createdAt", "updatedAt");
+    /** Mixed case, shared prefixes, punctuation and non-ASCII, so title order follows the database's collation */
+    private static final List<String> TITLES = List.of("alpha", "Alpha", "alpha beta", "Beta", "beta", "_under",
+            "Zulu", "zulu 2", "Ärger", "éclair", "123 numbers", "alpha");
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 11, 1, 9, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /** Stands in for the data version a commit would move on; the test transaction never commits */
+    private final AtomicLong dataVersion = new AtomicLong();
+    private TaskReadModel readModel;
+    private Long userId;
+    private Long otherUserId;
+    /** A few distinct timestamps, so sort keys and date bounds tie often */
+    private List<LocalDateTime> times;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("John Doe").email("john@example.com").password("hashedPassword").build()).getId();
+        otherUserId = userRepository.save(User.builder()
+                .name("Jane Doe").email("jane@example.com").password("hashedPassword").build()).getId();
+        TaskDataVersions dataVersions = mock(TaskDataVersions.class);
+        when(dataVersions.current(anyLong())).thenAnswer(invocation -> dataVersion.get());
+        doAnswer(invocation -> {
+            invocation.<LongConsumer>getArgument(1).accept(dataVersion.get());
+            return null;
+        }).when(dataVersions).afterCommit(anyLong(), any());
+        readModel = new TaskReadModel(taskRepository, dataVersions, true, 1 << 20, 3600, new SimpleMeterRegistry());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4})
+    void testListingsMatchTheDatabase(long seed) {
+        Random random = new Random(seed);
+        times = randomTimes(random);
+        List<Long> taskIds = new ArrayList<>();
+        taskIds.addAll(createTasks(random, userId, 40 + random.nextInt(40)));
+        taskIds.addAll(createTasks(random, otherUserId, 10));
+
+        for (int i = 0; i < LISTINGS_PER_RUN; i++) {
+            assertListingMatches(random, taskIds, "seed " + seed + ", listing " + i);
+        }
+    }
+
+    @Test
+    void testChangesKeepListingsMatching() {
+        Random random = new Random(42);
+        times = randomTimes(random);
+        List<Long> taskIds = new ArrayList<>(createTasks(random, userId, 30));
+        assertListingMatches(random, taskIds, "loaded");
+
+        for (int i = 0; i < 40; i++) {
+            Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            Task task = taskRepository.findById(taskId).orElse(null);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    Task created = taskRepository.saveAndFlush(Task.builder().title(pick(random, TITLES))
+                            .status(TaskStatus.OPEN).userId(userId).build());
+                    taskIds.add(created.getId());
+                    commit(TaskChangedEvent.created(userId, created.getId(), TaskStatus.OPEN,
+                            created.getCreatedAt()));
+                }
+                case 1 -> {
+                    if (task != null && task.getStatus() == TaskStatus.OPEN) {
+                        task.setStatus(TaskStatus.DONE);
+                        taskRepository.saveAndFlush(task);
+                        commit(TaskChangedEvent.statusChanged(userId, taskId, TaskStatus.OPEN,
+                                TaskStatus.DONE, task.getCreatedAt()));
+                    }
+                }
+                default -> {
+                    if (task != null) {
+                        taskRepository.delete(task);
+                        taskRepository.flush();
+                        commit(TaskChangedEvent.deleted(userId, taskId, task.getStatus(),
+                                task.getCreatedAt()));
+                    }
+                }
+            }
+            assertListingMatches(random, taskIds, "change " + i);
+        }
+    }
+
+    private void commit(TaskChangedEvent event) {
+        dataVersion.incrementAndGet();
+        readModel.onTaskChanged(event);
+    }
+
+    private void assertListingMatches(Random random, List<Long> taskIds, String description) {
+        TaskSearchRequest request = TaskSearchRequest.builder()
+                .status(random.nextInt(3) == 0 ? null : pick(random, List.of("open", "done", " OPEN ")))
+                .fromDate(random.nextInt(3) == 0 ? randomBound(random) : null)
+                .toDate(random.nextInt(3) == 0 ? randomBound(random) : null)
+                .build();
+        List<Long> ids = random.nextInt(4) == 0 ? randomIds(random, taskIds) : null;
+        Sort.Direction direction = random.nextBoolean() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        String sortBy = pick(random, SORT_FIELDS);
+        Sort sort = Sort.by(direction, sortBy);
+        Set<TaskField> fields = randomFields(random);
+        long offset = random.nextInt(4) == 0 ? random.nextInt(60) : 0;
+        int limit = 1 + random.nextInt(25);
+
+        TaskFilter filter = TaskFilter.of(userId, request);
+        if (ids != null) {
+            filter = filter.withIds(ids);
+        }
+        String context = description + ": " + request + ", ids " + ids + ", sort " + sort + ", fields " + fields
+                + ", offset " + offset + ", limit " + limit;
+
+        // Same rows, total and key order as the Criteria query
+        TaskReadModel.Result all = readModel.find(filter, TaskField.DEFAULTS, sort, 0, Integer.MAX_VALUE)
+                .orElseThrow();
+        List<Task> expected = findMatching(filter, sort);
+        assertThat(all.total()).as(context).isEqualTo(expected.size());
+        assertThat(all.tasks()).as(context).extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(Task::getId).toList());
+        assertThat(all.tasks()).as(context).extracting(sortKey(sortBy))
+                .containsExactlyElementsOf(expected.stream().map(this::toResponse).map(sortKey(sortBy)).toList());
+
+        // Same page, field for field, as the listing query with ID breaking ties
+        Sort tieBroken = "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+        List<TaskResponse> page = taskRepository.findProjected(filter, fields, tieBroken, offset, Limit.of(limit));
+        TaskReadModel.Result inMemory = readModel.find(filter, fields, sort, offset, limit).orElseThrow();
+        assertThat(inMemory.tasks()).as(context).containsExactlyElementsOf(page);
+        assertThat(inMemory.total()).as(context).isEqualTo(taskRepository.countMatching(filter));
+    }
+
+    /**
+     * The filter as a Criteria query, written independently of the JPQL templates
+     */
+    private List<Task> findMatching(TaskFilter filter, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("userId"), filter.userId()));
+        if (filter.status() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.fromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.fromDate()));
+        }
+        if (filter.toDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.toDate()));
+        }
+        if (filter.ids() != null) {
+            predicates.add(filter.ids().isEmpty() ? cb.disjunction() : root.get("id").in(filter.ids()));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new)).orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<Long> createTasks(Random random, Long ownerId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .title(pick(random, TITLES))
+                    .status(random.nextBoolean() ? TaskStatus.OPEN : TaskStatus.DONE)
+                    .userId(ownerId)
+                    .build());
+            ids.add(task.getId());
+        }
+        entityManager.flush();
+
+        // Timestamps are generated on insert, so spread them out afterwards
+        for (Long id : ids) {
+            entityManager.createNativeQuery("update tasks set created_at = ?, updated_at = ? where id = ?")
+                    .setParameter(1, pick(random, times))
+                    .setParameter(2, pick(random, times))
+                    .setParameter(3, id)
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        readModel.invalidate(ownerId);
+        return ids;
+    }
+
+    private List<LocalDateTime> randomTimes(Random random) {
+        List<LocalDateTime> times = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            // Whole microseconds, the precision of the timestamp columns
+            times.add(BASE.plusMinutes(random.nextInt(600)).plusNanos(random.nextInt(1_000_000) * 1_000L));
+        }
+        return times;
+    }
+
+    /**
+     * A stored time, or a time just before or after one
+     */
+    private LocalDateTime randomBound(Random random) {
+        LocalDateTime time = pick(random, times);
+        return switch (random.nextInt(4)) {
+            case 0 -> time;
+            case 1 -> time.minusNanos(1_000);
+            case 2 -> time.plusNanos(1_000);
+            default -> BASE.plusMinutes(random.nextInt(600));
+        };
+    }
+
+    private static List<Long> randomIds(Random random, List<Long> taskIds) {
+        List<Long> ids = new ArrayList<>();
+        int count = random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            // Also IDs of the other user and IDs that never existed
+            ids.add(random.nextInt(10) == 0 ? -1L - random.nextInt(5) : pick(random, taskIds));
+        }
+        return ids;
+    }
+
+    private static Set<TaskField> randomFields(Random random) {
+        Set<TaskField> fields = EnumSet.of(TaskField.ID);
+        for (TaskField field : TaskField.values()) {
+            if (field != TaskField.DESCRIPTION && random.nextBoolean()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Function<TaskResponse, Object> sortKey(String sortBy) {
+        return switch (sortBy) {
+            case "title" -> TaskResponse::getTitle;
+            case "status" -> TaskResponse::getStatus;
+            case "createdAt" -> TaskResponse::getCreatedAt;
+            case "updatedAt" -> TaskResponse::getUpdatedAt;
+            default -> TaskResponse::getId;
+        };
+    }
+
+    private TaskResponse toResponse(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus().getStringValue())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
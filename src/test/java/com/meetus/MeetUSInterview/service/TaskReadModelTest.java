@@ -0,0 +1,165 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.enums.TaskField;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskReadModel; {@code TaskReadModelPropertyTest} checks listings against the database
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskReadModelTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 11, 1, 10, 0);
+    private static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    /** Data versions as stored in task_stats, which every instance reads */
+    private final Map<Long, Long> storedVersions = new ConcurrentHashMap<>();
+    private TaskDataVersions dataVersions;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(taskStatsRepository.findDataVersion(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedVersions.get(invocation.<Long>getArgument(0))));
+        dataVersions = new TaskDataVersions(taskStatsRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        readModel = new TaskReadModel(taskRepository, dataVersions, true, 1 << 20, 3600, meterRegistry);
+    }
+
+    @Test
+    void testFind_LoadsOnceThenAppliesChanges() {
+        when(taskRepository.streamColumnsByUserId(1L)).thenAnswer(invocation -> Stream.of(row(1L, "First"), row(2L, "Second")));
+        assertThat(ids(readModel.find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10))).containsExactly(1L, 2L);
+
+        Task done = task(2L, TaskStatus.DONE);
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(done));
+        commit(TaskChangedEvent.statusChanged(1L, 2L, TaskStatus.OPEN, TaskStatus.DONE, CREATED_AT));
+        when(taskRepository.findById(3L)).thenReturn(Optional.of(task(3L, TaskStatus.OPEN)));
+        commit(TaskChangedEvent.created(1L, 3L, TaskStatus.OPEN, CREATED_AT));
+        commit(TaskChangedEvent.deleted(1L, 1L, TaskStatus.OPEN, CREATED_AT));
+
+        Optional<TaskReadModel.Result> result = readModel.find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10);
+        assertThat(ids(result)).containsExactly(2L, 3L);
+        assertThat(result.get().tasks().get(0).getStatus()).isEqualTo("done");
+        assertThat(result.get().total()).isEqualTo(2);
+        verify(taskRepository, times(1)).streamColumnsByUserId(1L);
+    }
+
+    @Test
+    void testFind_ChangeCommittedWhileLoadingForcesReload() {
+        List<Object[]> rows = new ArrayList<>(List.<Object[]>of(row(1L, "First")));
+        when(taskRepository.streamColumnsByUserId(1L)).thenAnswer(invocation -> {
+            Stream<Object[]> snapshot = List.copyOf(rows).stream();
+            if (rows.size() == 1) {
+                // Committed after the load read its rows, handled before the loaded tasks are visible
+                rows.add(row(2L, "Second"));
+                commit(TaskChangedEvent.created(1L, 2L, TaskStatus.OPEN, CREATED_AT));
+            }
+            return snapshot;
+        });
+
+        assertThat(ids(readModel.find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10))).containsExactly(1L, 2L);
+        verify(taskRepository, times(2)).streamColumnsByUserId(1L);
+    }
+
+    @Test
+    void testFind_ChangeMadeThroughAnotherInstanceForcesReload() {
+        List<Object[]> rows = new ArrayList<>(List.<Object[]>of(row(1L, "First")));
+        when(taskRepository.streamColumnsByUserId(1L)).thenAnswer(invocation -> List.copyOf(rows).stream());
+        assertThat(ids(readModel.find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10))).containsExactly(1L);
+
+        // Committed through another instance: the stored version moves on, no event reaches this one
+        rows.add(row(2L, "Second"));
+        storedVersions.merge(1L, 1L, Long::sum);
+
+        assertThat(ids(readModel.find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10))).containsExactly(1L, 2L);
+        verify(taskRepository, times(2)).streamColumnsByUserId(1L);
+    }
+
+    @Test
+    void testFind_LeavesSearchCursorAndDescriptionToTheDatabase() {
+        TaskFilter search = new TaskFilter(1L, null, null, null, "report", null, null);
+
+        assertThat(readModel.find(search, TaskField.DEFAULTS, BY_ID, 0, 10)).isEmpty();
+        assertThat(readModel.find(filter(1L), Set.of(TaskField.ID, TaskField.DESCRIPTION), BY_ID, 0, 10)).isEmpty();
+        assertThat(new TaskReadModel(taskRepository, dataVersions, false, 1 << 20, 3600, new SimpleMeterRegistry())
+                .find(filter(1L), TaskField.DEFAULTS, BY_ID, 0, 10)).isEmpty();
+        verifyNoInteractions(taskRepository);
+        assertThat(meterRegistry.get("tasks.read.model.requests").tag("result", "fallback").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void testFind_EvictsUsersOverTheByteBudget() {
+        readModel = new TaskReadModel(taskRepository, dataVersions, true, 8_000, 3600, meterRegistry = new SimpleMeterRegistry());
+        when(taskRepository.streamColumnsByUserId(anyLong())).thenAnswer(invocation -> Stream.<Object[]>of(row(1L, "Task")));
+
+        for (long userId = 1; userId <= 20; userId++) {
+            assertThat(ids(readModel.find(filter(userId), TaskField.DEFAULTS, BY_ID, 0, 10))).containsExactly(1L);
+        }
+
+        assertThat(meterRegistry.get("tasks.read.model.users").gauge().value()).isLessThan(20);
+        assertThat(meterRegistry.get("tasks.read.model.evictions").counter().count()).isPositive();
+        assertThat(readModel.getEstimatedBytes()).isLessThanOrEqualTo(8_000);
+    }
+
+    private static TaskFilter filter(Long userId) {
+        return new TaskFilter(userId, null, null, null, null, null, null);
+    }
+
+    private static List<Long> ids(Optional<TaskReadModel.Result> result) {
+        assertThat(result).isPresent();
+        return result.get().tasks().stream().map(TaskResponse::getId).toList();
+    }
+
+    private static Object[] row(Long id, String title) {
+        return new Object[]{id, title, TaskStatus.OPEN, CREATED_AT, CREATED_AT};
+    }
+
+    private static Task task(Long id, TaskStatus status) {
+        return Task.builder().id(id).title("Task " + id).status(status).userId(1L)
+                .createdAt(CREATED_AT).updatedAt(CREATED_AT.plusHours(1)).build();
+    }
+
+    private void commit(TaskChangedEvent event) {
+        storedVersions.merge(event.userId(), 1L, Long::sum);
+        readModel.onTaskChanged(event);
+    }
+}
@@ -0,0 +1,173 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for TaskSearchIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    /** Data versions as stored in task_stats, which every instance reads */
+    private final Map<Long, Long> storedVersions = new ConcurrentHashMap<>();
+    private TaskDataVersions dataVersions;
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(taskStatsRepository.findDataVersion(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(storedVersions.get(invocation.<Long>getArgument(0))));
+        dataVersions = new TaskDataVersions(taskStatsRepository);
+        taskSearchIndex = new TaskSearchIndex(taskRepository, dataVersions, true, 100, 3600, 2);
+    }
+
+    @Test
+    void testSearch_RanksTitleMatchesFirstAndRequiresEveryTerm() {
+        when(taskRepository.streamSearchableByUserId(1L)).thenReturn(Stream.of(
+                new Object[]{1L, "Weekly report", "Send it to the team"},
+                new Object[]{2L, "Groceries", "Milk, bread and the weekly report draft"},
+                new Object[]{3L, "Report bug", "Crash on startup"},
+                new Object[]{4L, "Documentation", null}));
+
+        assertThat(taskSearchIndex.search(1L, "Weekly REPORT"))
+                .extracting(TaskSearchIndex.Hit::taskId).containsExactly(1L, 2L);
+        assertThat(taskSearchIndex.search(1L, "doc"))
+                .extracting(TaskSearchIndex.Hit::taskId).containsExactly(4L);
+        assertThat(taskSearchIndex.search(1L, "report missing")).isEmpty();
+        verify(taskRepository, times(1)).streamSearchableByUserId(1L);
+    }
+
+    @Test
+    void testResolve_ReplacesSearchTextWithEveryMatch() {
+        when(taskRepository.streamSearchableByUserId(1L)).thenReturn(Stream.of(
+                new Object[]{1L, "Weekly report", null},
+                new Object[]{2L, "Groceries", null},
+                new Object[]{3L, "Monthly report", null}));
+
+        TaskFilter filter = taskSearchIndex.resolve(new TaskFilter(1L, TaskStatus.OPEN, null, null, "report", null, null));
+
+        assertThat(filter.search()).isNull();
+        assertThat(filter.status()).isEqualTo(TaskStatus.OPEN);
+        assertThat(filter.ids()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void testResolve_MoreMatchesThanMaxCandidatesBecomeATestInsteadOfIds() {
+        when(taskRepository.streamSearchableByUserId(1L)).thenReturn(Stream.of(
+                new Object[]{1L, "Weekly report", null},
+                new Object[]{2L, "Groceries", null},
+                new Object[]{3L, "Monthly report", null},
+                new Object[]{4L, "Yearly report", null}));
+
+        TaskFilter filter = taskSearchIndex.resolve(new TaskFilter(1L, null, null, null, "report", null, null));
+
+        assertThat(filter.search()).isNull();
+        assertThat(filter.ids()).isNull();
+        assertThat(filter.matches()).accepts(1L, 3L, 4L).rejects(2L, 5L);
+    }
+
+    @Test
+    void testSearch_ChangeCommittedWhileLoadingForcesRebuild() {
+        List<Object[]> rows = new ArrayList<>(List.<Object[]>of(new Object[]{1L, "Weekly report", null}));
+        when(taskRepository.streamSearchableByUserId(1L)).thenAnswer(invocation -> {
+            Stream<Object[]> snapshot = List.copyOf(rows).stream();
+            if (rows.size() == 1) {
+                // Committed after the load read its rows, handled before the loaded index is visible
+                rows.add(new Object[]{2L, "Monthly report", null});
+                commit(TaskChangedEvent.created(1L, 2L, TaskStatus.OPEN, null));
+            }
+            return snapshot;
+        });
+
+        assertThat(taskSearchIndex.search(1L, "report"))
+                .extracting(TaskSearchIndex.Hit::taskId).containsExactlyInAnyOrder(1L, 2L);
+        verify(taskRepository, times(2)).streamSearchableByUserId(1L);
+    }
+
+    @Test
+    void testSearch_ChangeMadeThroughAnotherInstanceForcesRebuild() {
+        when(taskRepository.streamSearchableByUserId(1L))
+                .thenReturn(Stream.<Object[]>of(new Object[]{1L, "Weekly report", null}))
+                .thenReturn(Stream.of(new Object[]{1L, "Weekly report", null}, new Object[]{2L, "Monthly report", null}));
+        assertThat(taskSearchIndex.search(1L, "report")).hasSize(1);
+
+        // Committed through another instance: no local event, only the stored version moves
+        storedVersions.merge(1L, 1L, Long::sum);
+
+        assertThat(taskSearchIndex.search(1L, "report"))
+                .extracting(TaskSearchIndex.Hit::taskId).containsExactlyInAnyOrder(1L, 2L);
+        verify(taskRepository, times(2)).streamSearchableByUserId(1L);
+    }
+
+    @Test
+    void testOnTaskChanged_AppliesCreationsAndDeletionsIdempotently() {
+        when(taskRepository.streamSearchableByUserId(1L)).thenReturn(Stream.<Object[]>of(
+                new Object[]{1L, "Weekly report", null}));
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(
+                Task.builder().id(2L).title("Quarterly report").userId(1L).build()));
+        taskSearchIndex.search(1L, "report");
+
+        TaskChangedEvent created = TaskChangedEvent.created(1L, 2L, TaskStatus.OPEN, null);
+        commit(created);
+        taskSearchIndex.onTaskChanged(created);
+        commit(TaskChangedEvent.statusChanged(1L, 2L, TaskStatus.OPEN, TaskStatus.DONE, null));
+        TaskChangedEvent deleted = TaskChangedEvent.deleted(1L, 1L, TaskStatus.OPEN, null);
+        commit(deleted);
+        taskSearchIndex.onTaskChanged(deleted);
+
+        // Every change was applied in place, so the index is at the stored version and is not rebuilt
+        assertThat(taskSearchIndex.search(1L, "report"))
+                .extracting(TaskSearchIndex.Hit::taskId).containsExactly(2L);
+        verify(taskRepository, times(1)).streamSearchableByUserId(1L);
+    }
+
+    @Test
+    void testOnTaskChanged_IgnoresUnindexedUserAndStatusChanges() {
+        taskSearchIndex.onTaskChanged(TaskChangedEvent.created(2L, 10L, TaskStatus.OPEN, null));
+        taskSearchIndex.onTaskChanged(TaskChangedEvent.statusChanged(2L, 10L, TaskStatus.OPEN, TaskStatus.DONE, null));
+
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testCanSearch() {
+        assertThat(taskSearchIndex.canSearch("report")).isTrue();
+        assertThat(taskSearchIndex.canSearch("  !! ")).isFalse();
+        assertThat(new TaskSearchIndex(taskRepository, dataVersions, false, 100, 3600, 2).canSearch("report")).isFalse();
+    }
+
+    /**
+     * A task write: moves the stored version on, then delivers the event
+     */
+    private void commit(TaskChangedEvent event) {
+        storedVersions.merge(event.userId(), 1L, Long::sum);
+        taskSearchIndex.onTaskChanged(event);
+    }
+}
@@ -5,27 +5,38 @@ import com.meetus.MeetUSInterview.dto.request.task.TaskSearchRequest;
 import com.meetus.MeetUSInterview.dto.response.task.TaskPageResponse;
 import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
 import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import com.meetus.MeetUSInterview.enums.TaskField;
 import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.event.TaskChangedEvent;
 import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskCursor;
+import com.meetus.MeetUSInterview.repository.TaskFilter;
 import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskTombstoneRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -37,9 +48,30 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Spy
+    private TaskCursorCodec taskCursorCodec = new TaskCursorCodec("testCursorSecret");
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskReadModel taskReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -69,6 +101,10 @@ class TaskServiceTest {
                 .status("open")
                 .userId(1L)
                 .build();
+
+        lenient().when(taskSearchIndex.resolve(any(TaskFilter.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(taskSearchIndex.getMaxCandidates()).thenReturn(1000);
     }
 
     @Test
@@ -81,21 +117,196 @@ class TaskServiceTest {
 
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo("Test Task");
-        verify(taskRepository).save(any(Task.class));
+        InOrder order = inOrder(userRepository, taskRepository);
+        order.verify(userRepository).lockById(1L);
+        order.verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(1L, 1L, TaskStatus.OPEN, null));
     }
 
     @Test
     void testGetAllTasksForUser_Success() {
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(taskPage);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskRepository.findProjected(any(TaskFilter.class), eq(TaskField.DEFAULTS), any(Sort.class),
+                eq(0L), eq(Limit.of(10)))).thenReturn(List.of(taskResponse));
 
         TaskSearchRequest searchRequest = new TaskSearchRequest();
         TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
 
         assertThat(response).isNotNull();
         assertThat(response.getTasks()).hasSize(1);
-        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(response.getTotalElements()).isEqualTo(1L);
+        // A short first page already gives the total
+        verify(taskRepository, never()).countMatching(any(TaskFilter.class));
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    void testGetAllTasksForUser_AnsweredByReadModel() {
+        when(taskReadModel.find(any(TaskFilter.class), eq(TaskField.DEFAULTS), any(Sort.class), eq(10L), eq(10)))
+                .thenReturn(Optional.of(new TaskReadModel.Result(Collections.nCopies(10, taskResponse), 25L)));
+
+        TaskPageResponse exact = taskService.getAllTasksForUser(TaskSearchRequest.builder().page(1).build(), 1L);
+        TaskPageResponse none = taskService.getAllTasksForUser(
+                TaskSearchRequest.builder().page(1).count("none").build(), 1L);
+
+        assertThat(exact.getTasks()).hasSize(10);
+        assertThat(exact.getTotalElements()).isEqualTo(25L);
+        assertThat(exact.getTotalPages()).isEqualTo(3);
+        assertThat(exact.isLast()).isFalse();
+        assertThat(none.getTotalElements()).isNull();
+        assertThat(none.isLast()).isFalse();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetAllTasksForUser_RequestedFields() {
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), any(Sort.class), eq(10L), eq(Limit.of(10))))
+                .thenReturn(Collections.nCopies(10, taskResponse));
+        when(taskRepository.countMatching(any(TaskFilter.class))).thenReturn(25L);
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().page(1).fields("title, description").build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTotalElements()).isEqualTo(25L);
+        verify(taskRepository).findProjected(any(TaskFilter.class),
+                eq(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.DESCRIPTION)), any(Sort.class),
+                eq(10L), eq(Limit.of(10)));
+    }
+
+    @Test
+    void testGetAllTasksForUser_TiesBrokenById() {
+        Sort byTitleThenId = Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id"));
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), eq(byTitleThenId), eq(0L), eq(Limit.of(10))))
+                .thenReturn(List.of(taskResponse));
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().sortBy("title").sortDirection("asc").build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTasks()).hasSize(1);
+    }
+
+    @Test
+    void testGetAllTasksForUser_UnknownField() {
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().fields("title,password").build();
+
+        assertThatThrownBy(() -> taskService.getAllTasksForUser(searchRequest, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetAllTasksForUser_CountNone() {
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), any(Sort.class), eq(0L), eq(Limit.of(11))))
+                .thenReturn(Collections.nCopies(11, taskResponse));
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().count("none").build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTasks()).hasSize(10);
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        verify(taskRepository, never()).countMatching(any(TaskFilter.class));
+        verifyNoInteractions(taskStatsService);
+    }
+
+    @Test
+    void testGetAllTasksForUser_CountEstimated() {
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), any(Sort.class), eq(0L), eq(Limit.of(11))))
+                .thenReturn(List.of(taskResponse));
+        when(taskStatsService.countTasks(1L, TaskStatus.OPEN)).thenReturn(25L);
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().count("estimated").status("open").build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTotalElements()).isEqualTo(25L);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.isTotalEstimated()).isTrue();
+        verify(taskRepository, never()).countMatching(any(TaskFilter.class));
+    }
+
+    @Test
+    void testGetAllTasksForUser_CursorPagination() {
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), any(Sort.class), eq(0L), eq(Limit.of(3))))
+                .thenReturn(List.of(
+                        TaskResponse.builder().id(3L).build(),
+                        TaskResponse.builder().id(2L).build(),
+                        TaskResponse.builder().id(1L).build()));
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().pagination("cursor").sortBy("id").size(2).build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTasks()).hasSize(2);
+        assertThat(response.isFirst()).isTrue();
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(taskCursorCodec.decode(response.getNextCursor(), 1L).id()).isEqualTo(2L);
+        verify(taskRepository, never()).countMatching(any(TaskFilter.class));
+    }
+
+    @Test
+    void testGetAllTasksForUser_CursorPaginationUnindexedSort() {
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().pagination("cursor").sortBy("title").build();
+
+        assertThatThrownBy(() -> taskService.getAllTasksForUser(searchRequest, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetAllTasksForUser_CursorForDifferentSort() {
+        String cursor = taskCursorCodec.encode(new TaskCursor("id", Sort.Direction.DESC, null, 5L), 1L);
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().cursor(cursor).sortBy("createdAt").build();
+
+        assertThatThrownBy(() -> taskService.getAllTasksForUser(searchRequest, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different sort order");
+    }
+
+    @Test
+    void testGetAllTasksForUser_UnsupportedSortField() {
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().sortBy("password").build();
+
+        assertThatThrownBy(() -> taskService.getAllTasksForUser(searchRequest, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetAllTasksForUser_SortByRelevance() {
+        when(taskSearchIndex.canSearch("report")).thenReturn(true);
+        when(taskSearchIndex.search(1L, "report")).thenReturn(List.of(
+                new TaskSearchIndex.Hit(2L, 3.5),
+                new TaskSearchIndex.Hit(1L, 1.2),
+                new TaskSearchIndex.Hit(7L, 0.4)));
+        when(taskRepository.findProjected(any(TaskFilter.class), any(), any(Sort.class), eq(0L), eq(Limit.unlimited())))
+                .thenReturn(List.of(TaskResponse.builder().id(1L).build(), TaskResponse.builder().id(2L).build()));
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().search("report").sortBy("relevance").size(2).build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTasks()).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(3L);
+        assertThat(response.getTotalPages()).isEqualTo(2);
+        assertThat(response.isLast()).isFalse();
+    }
+
+    @Test
+    void testGetAllTasksForUser_SortByRelevanceWithoutSearch() {
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().sortBy("relevance").build();
+
+        assertThatThrownBy(() -> taskService.getAllTasksForUser(searchRequest, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requires a search term");
+    }
+
+    @Test
+    void testGetAllTasksForUser_SearchThroughIndex() {
+        // The search text is replaced by the IDs of the index matches
+        TaskFilter filter = new TaskFilter(1L, null, null, null, null, List.of(1L), null);
+        when(taskSearchIndex.resolve(new TaskFilter(1L, null, null, null, "report", null, null))).thenReturn(filter);
+        when(taskRepository.findProjected(eq(filter), any(), any(Sort.class), eq(0L), eq(Limit.of(10))))
+                .thenReturn(List.of(taskResponse));
+
+        TaskSearchRequest searchRequest = TaskSearchRequest.builder().search("report").build();
+        TaskPageResponse response = taskService.getAllTasksForUser(searchRequest, 1L);
+
+        assertThat(response.getTasks()).hasSize(1);
     }
 
     @Test
@@ -127,7 +338,10 @@ class TaskServiceTest {
         TaskResponse response = taskService.updateTask(1L, 1L);
 
         assertThat(response).isNotNull();
-        verify(taskRepository).save(any(Task.class));
+        InOrder order = inOrder(userRepository, taskRepository);
+        order.verify(userRepository).lockById(1L);
+        order.verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusChanged(1L, 1L, TaskStatus.OPEN, TaskStatus.DONE, null));
     }
 
     @Test
@@ -136,7 +350,11 @@ class TaskServiceTest {
 
         taskService.deleteTask(1L, 1L);
 
-        verify(taskRepository).delete(testTask);
+        InOrder order = inOrder(userRepository, taskRepository);
+        order.verify(userRepository).lockById(1L);
+        order.verify(taskRepository).delete(testTask);
+        verify(taskTombstoneRepository).save(TaskTombstone.builder().taskId(1L).userId(1L).build());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(1L, 1L, TaskStatus.OPEN, null));
     }
 
     @Test
@@ -146,5 +364,6 @@ class TaskServiceTest {
         assertThatThrownBy(() -> taskService.deleteTask(1L, 1L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Task not found");
+        verifyNoInteractions(taskTombstoneRepository);
     }
 }
@@ -0,0 +1,151 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.request.task.TaskCreateRequest;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskStatsResponse;
+import com.meetus.MeetUSInterview.entity.User;
+import com.meetus.MeetUSInterview.enums.TaskStatus;
+import com.meetus.MeetUSInterview.repository.TaskStatsRepository;
+import com.meetus.MeetUSInterview.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for TaskStatsService, against the real task write path and database
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskStatsRepository taskStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("Stats User")
+                .email("stats-" + System.nanoTime() + "@example.com")
+                .password("hashedPassword")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Cascades to the user's tasks and aggregates
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void testConcurrentCreates_NoLostUpdates() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<TaskResponse>> futures = IntStream.range(0, 40)
+                .mapToObj(i -> pool.submit(() -> taskService.createTask(
+                        TaskCreateRequest.builder().title("Task " + i).build(), userId)))
+                .toList();
+        for (Future<TaskResponse> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        TaskStatsResponse stats = taskStatsService.getStats(userId, null, null);
+
+        assertThat(stats.getOpenTasks()).isEqualTo(40);
+        assertThat(stats.getCreatedPerDay().get(stats.getCreatedPerDay().size() - 1).getCount()).isEqualTo(40);
+    }
+
+    @Test
+    void testTwoConcurrentCreatesForOneUser_BothCommit() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        List<Future<TaskResponse>> futures = IntStream.range(0, 2)
+                .mapToObj(i -> pool.submit(() -> {
+                    start.await();
+                    return taskService.createTask(TaskCreateRequest.builder().title("Task " + i).build(), userId);
+                }))
+                .toList();
+        for (Future<TaskResponse> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(taskStatsService.getStats(userId, null, null).getOpenTasks()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpdateAndDelete_AdjustCounts() {
+        TaskResponse first = taskService.createTask(TaskCreateRequest.builder().title("First").build(), userId);
+        TaskResponse second = taskService.createTask(TaskCreateRequest.builder().title("Second").build(), userId);
+        taskService.updateTask(first.getId(), userId);
+        taskService.deleteTask(second.getId(), userId);
+
+        TaskStatsResponse stats = taskStatsService.getStats(userId, LocalDate.now(), LocalDate.now());
+
+        assertThat(stats.getOpenTasks()).isZero();
+        assertThat(stats.getDoneTasks()).isEqualTo(1);
+        assertThat(stats.getCreatedPerDay()).singleElement()
+                .extracting(TaskStatsResponse.DailyCount::getCount).isEqualTo(1L);
+        assertThat(taskStatsService.countTasks(userId, TaskStatus.DONE)).isEqualTo(1);
+        assertThat(taskStatsService.countTasks(userId, null)).isEqualTo(1);
+        // One data version per write
+        assertThat(taskStatsRepository.findDataVersion(userId)).contains(4L);
+    }
+
+    @Test
+    void testRebuild_MovesTheDataVersionOn() {
+        taskService.createTask(TaskCreateRequest.builder().title("First").build(), userId);
+        taskService.createTask(TaskCreateRequest.builder().title("Second").build(), userId);
+
+        taskStatsService.rebuild(userId);
+
+        assertThat(taskStatsRepository.findDataVersion(userId)).contains(3L);
+    }
+
+    @Test
+    void testRebuild_RecomputesFromTasks() {
+        taskService.createTask(TaskCreateRequest.builder().title("First").build(), userId);
+        taskService.createTask(TaskCreateRequest.builder().title("Second").build(), userId);
+        taskStatsRepository.deleteById(userId);
+
+        taskStatsService.rebuild(userId);
+
+        TaskStatsResponse stats = taskStatsService.getStats(userId, LocalDate.now().minusDays(6), LocalDate.now());
+        assertThat(stats.getOpenTasks()).isEqualTo(2);
+        assertThat(stats.getCreatedPerDay()).hasSize(7);
+        assertThat(stats.getCreatedPerDay().get(6).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetStats_InvalidRange() {
+        assertThatThrownBy(() -> taskStatsService.getStats(userId, LocalDate.now(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskStatsService.getStats(userId, LocalDate.now().minusYears(2), LocalDate.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
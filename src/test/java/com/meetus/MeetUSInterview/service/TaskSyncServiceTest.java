@@ -0,0 +1,185 @@
+package com.meetus.MeetUSInterview.service;
+
+import com.meetus.MeetUSInterview.dto.response.task.TaskChangesResponse;
+import com.meetus.MeetUSInterview.dto.response.task.TaskResponse;
+import com.meetus.MeetUSInterview.entity.Task;
+import com.meetus.MeetUSInterview.entity.TaskTombstone;
+import com.meetus.MeetUSInterview.mapper.TaskMapper;
+import com.meetus.MeetUSInterview.repository.TaskChangesCursor;
+import com.meetus.MeetUSInterview.repository.TaskRepository;
+import com.meetus.MeetUSInterview.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for TaskSyncService
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private final TaskCursorCodec taskCursorCodec = new TaskCursorCodec("testCursorSecret");
+    private TaskSyncService taskSyncService;
+
+    @BeforeEach
+    void setUp() {
+        taskSyncService = new TaskSyncService(taskRepository, taskTombstoneRepository, taskMapper, taskCursorCodec,
+                5, 2, 3, 30);
+    }
+
+    @Test
+    void testGetChanges_FullSyncCaughtUpStopsAtSettleBoundary() {
+        LocalDateTime justNow = LocalDateTime.now();
+        when(taskRepository.findChangedAfter(1L, BEGINNING, 0L, Limit.of(3)))
+                .thenReturn(List.of(task(4L, justNow.minusMinutes(1)), task(7L, justNow)));
+        when(taskTombstoneRepository.findAfter(eq(1L), any(LocalDateTime.class), eq(0L), eq(Limit.of(3))))
+                .thenReturn(List.of());
+        stubMapper();
+
+        TaskChangesResponse response = taskSyncService.getChanges(null, null, 1L);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(4L, 7L);
+        assertThat(response.getDeleted()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.isResyncRequired()).isFalse();
+
+        // Task 7 is inside the settle window, so the next call sends it again
+        TaskChangesCursor next = taskCursorCodec.decodeChanges(response.getNextCursor(), 1L);
+        assertThat(next.tasksAt()).isCloseTo(justNow.minusSeconds(5), within(1, ChronoUnit.SECONDS));
+        assertThat(next.taskId()).isZero();
+        assertThat(next.tombstonesAt()).isCloseTo(justNow.minusSeconds(5), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void testGetChanges_FullPageAdvancesToLastRowSent() {
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+        String cursor = taskCursorCodec.encodeChanges(new TaskChangesCursor(since, 3L, since, 3L), 1L);
+        LocalDateTime changedAt = since.plusHours(1);
+        when(taskRepository.findChangedAfter(1L, since, 3L, Limit.of(3)))
+                .thenReturn(List.of(task(5L, changedAt), task(6L, changedAt), task(8L, changedAt)));
+        when(taskTombstoneRepository.findAfter(1L, since, 3L, Limit.of(3)))
+                .thenReturn(List.of(tombstone(9L, changedAt)));
+        stubMapper();
+
+        TaskChangesResponse response = taskSyncService.getChanges(cursor, null, 1L);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(5L, 6L);
+        assertThat(response.getDeleted()).containsExactly(9L);
+        assertThat(response.isHasMore()).isTrue();
+
+        TaskChangesCursor next = taskCursorCodec.decodeChanges(response.getNextCursor(), 1L);
+        assertThat(next.tasksAt()).isEqualTo(changedAt);
+        assertThat(next.taskId()).isEqualTo(6L);
+        assertThat(next.tombstonesAt()).isAfter(changedAt);
+    }
+
+    @Test
+    void testGetChanges_FullPageNeverSkipsALateCommitBehindIt() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        String cursor = taskCursorCodec.encodeChanges(new TaskChangesCursor(since, 3L, since, 3L), 1L);
+        LocalDateTime justNow = LocalDateTime.now();
+        // A full page entirely inside the settle window
+        when(taskRepository.findChangedAfter(1L, since, 3L, Limit.of(3)))
+                .thenReturn(List.of(task(5L, justNow), task(6L, justNow), task(8L, justNow)));
+        when(taskTombstoneRepository.findAfter(1L, since, 3L, Limit.of(3))).thenReturn(List.of());
+        stubMapper();
+
+        TaskChangesResponse response = taskSyncService.getChanges(cursor, null, 1L);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(5L, 6L);
+        assertThat(response.isHasMore()).isFalse();
+
+        // A change timestamped just before this page but committed after it was read is still ahead of the cursor
+        TaskChangesCursor next = taskCursorCodec.decodeChanges(response.getNextCursor(), 1L);
+        assertThat(next.tasksAt()).isBefore(justNow.minusSeconds(4));
+        assertThat(next.tasksAt()).isCloseTo(justNow.minusSeconds(5), within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void testGetChanges_CaughtUpCursorNeverMovesBack() {
+        LocalDateTime ahead = LocalDateTime.now().plusSeconds(1);
+        TaskChangesCursor cursor = new TaskChangesCursor(ahead, 3L, ahead, 4L);
+        when(taskRepository.findChangedAfter(1L, ahead, 3L, Limit.of(4))).thenReturn(List.of());
+        when(taskTombstoneRepository.findAfter(1L, ahead, 4L, Limit.of(4))).thenReturn(List.of());
+
+        // Limit above the maximum is capped
+        TaskChangesResponse response = taskSyncService.getChanges(taskCursorCodec.encodeChanges(cursor, 1L), 100, 1L);
+
+        assertThat(taskCursorCodec.decodeChanges(response.getNextCursor(), 1L)).isEqualTo(cursor);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void testGetChanges_CursorPastRetentionRequiresResync() {
+        LocalDateTime old = LocalDateTime.now().minusDays(31);
+        String cursor = taskCursorCodec.encodeChanges(new TaskChangesCursor(old, 1L, old, 1L), 1L);
+
+        TaskChangesResponse response = taskSyncService.getChanges(cursor, null, 1L);
+
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getNextCursor()).isNull();
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    void testGetChanges_OtherUsersCursorRejected() {
+        String cursor = taskCursorCodec.encodeChanges(
+                new TaskChangesCursor(BEGINNING, 0L, LocalDateTime.now(), 0L), 2L);
+
+        assertThatThrownBy(() -> taskSyncService.getChanges(cursor, null, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    void testDeleteExpiredTombstones_UsesRetention() {
+        when(taskTombstoneRepository.deleteOlderThan(any(LocalDateTime.class))).thenReturn(2);
+
+        taskSyncService.deleteExpiredTombstones();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskTombstoneRepository).deleteOlderThan(cutoff.capture());
+        assertThat(cutoff.getValue()).isCloseTo(LocalDateTime.now().minusDays(30), within(1, ChronoUnit.SECONDS));
+    }
+
+    private void stubMapper() {
+        when(taskMapper.toResponse(any(Task.class)))
+                .thenAnswer(invocation -> TaskResponse.builder().id(invocation.<Task>getArgument(0).getId()).build());
+    }
+
+    private static Task task(Long id, LocalDateTime updatedAt) {
+        return Task.builder().id(id).userId(1L).updatedAt(updatedAt).build();
+    }
+
+    private static TaskTombstone tombstone(Long taskId, LocalDateTime deletedAt) {
+        return TaskTombstone.builder().taskId(taskId).userId(1L).deletedAt(deletedAt).build();
+    }
+}
@@ -6,18 +6,27 @@ import com.meetus.MeetUSInterview.dto.response.auth.AuthResponse;
 import com.meetus.MeetUSInterview.entity.User;
 import com.meetus.MeetUSInterview.mapper.UserMapper;
 import com.meetus.MeetUSInterview.repository.UserRepository;
+import com.meetus.MeetUSInterview.security.JwtPrincipalResolver;
 import com.meetus.MeetUSInterview.security.JwtUtil;
+import com.meetus.MeetUSInterview.security.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +56,18 @@ class UserServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private JwtPrincipalResolver principalResolver;
+
+    @Mock
+    private EmailMembershipFilter emailMembershipFilter;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UserService userService;
 
@@ -77,6 +98,7 @@ class UserServiceTest {
 
     @Test
     void testRegister_Success() {
+        when(emailMembershipFilter.mightContain(anyString())).thenReturn(true);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
@@ -89,10 +111,26 @@ class UserServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getAccessToken()).isEqualTo("jwt-token");
         verify(userRepository).save(any(User.class));
+        verify(emailMembershipFilter).add("john@example.com");
+    }
+
+    @Test
+    void testRegister_DefinitelyNewEmailSkipsExistenceQuery() {
+        when(emailMembershipFilter.mightContain(anyString())).thenReturn(false);
+        when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
+        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
+
+        userService.register(registerRequest);
+
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository).save(any(User.class));
     }
 
     @Test
     void testRegister_EmailAlreadyExists() {
+        when(emailMembershipFilter.mightContain(anyString())).thenReturn(true);
         when(userRepository.existsByEmail(anyString())).thenReturn(true);
 
         assertThatThrownBy(() -> userService.register(registerRequest))
@@ -100,18 +138,87 @@ class UserServiceTest {
                 .hasMessage("Email already exists");
     }
 
+    @Test
+    void testRegister_ConcurrentDuplicateInsertMapsToEmailExists() {
+        when(emailMembershipFilter.mightContain(anyString())).thenReturn(false);
+        when(userMapper.toEntity(any(RegisterRequest.class))).thenReturn(user);
+        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate", new SQLException("duplicate"), null, ConstraintViolationException.ConstraintKind.UNIQUE, "uk_email");
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        assertThatThrownBy(() -> userService.register(registerRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email already exists");
+        verify(emailMembershipFilter, never()).add(anyString());
+    }
+
     @Test
     void testLogin_Success() {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
         when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
+        when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
         when(userMapper.toResponse(any(User.class))).thenReturn(any());
 
         AuthResponse response = userService.login(loginRequest);
 
         assertThat(response).isNotNull();
         assertThat(response.getAccessToken()).isEqualTo("jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testLogin_RehashesOutdatedPassword() {
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordEncoder.upgradeEncoding("hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("strongerHash");
+        when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
+
+        userService.login(loginRequest);
+
+        assertThat(user.getPassword()).isEqualTo("strongerHash");
+        verify(userRepository).save(user);
+        verify(principalResolver).invalidate(1L);
+    }
+
+
+    @Test
+    void testLogout_RevokesToken() {
+        Date expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        Claims claims = Jwts.claims().id("jti-1").subject("1").expiration(expiration).build();
+        when(jwtUtil.parseToken("jwt-token")).thenReturn(claims);
+
+        userService.logout("jwt-token", "refresh-token");
+
+        verify(tokenRevocationStore).revoke("jti-1", expiration.getTime());
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    void testRefresh_IssuesNewTokensWithoutPasswordCheck() {
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(1L, "next-refresh-token"));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtUtil.generateToken(user)).thenReturn("jwt-token");
+
+        AuthResponse response = userService.refresh("refresh-token");
+
+        assertThat(response.getAccessToken()).isEqualTo("jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("next-refresh-token");
+        verifyNoInteractions(passwordEncoder, authenticationManager);
     }
 
+    @Test
+    void testRefresh_DeletedUser() {
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(1L, "next-refresh-token"));
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.refresh("refresh-token"))
+                .isInstanceOf(BadCredentialsException.class);
+    }
 }